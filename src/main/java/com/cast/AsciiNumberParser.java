@@ -0,0 +1,370 @@
+package com.cast;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ASCII 字节数字解析工具，直接在 {@code byte[]} 与 {@code ByteBuffer} 上解析数字，不需要先解码为字符串
+ * <p>对连续的数字使用 SWAR（SIMD within a register）方式，每次将 8 个字节作为一个 {@code long} 处理。
+ * 所有解析方法在无法解析时返回调用方提供的默认值，不会抛出异常</p>
+ *
+ * @author Jon
+ */
+final class AsciiNumberParser {
+
+    private AsciiNumberParser() {
+    }
+
+    private static final int SCRATCH_SIZE = 64;
+
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[SCRATCH_SIZE]);
+
+    /**
+     * 解析字节数组中 {@code [start, end)} 范围内的 ASCII 字符为 {@code long}，规则与 {@link NumberParser#parseLong(CharSequence, long)} 一致
+     *
+     * @param value        要解析的字节数组
+     * @param start        起始位置（包含）
+     * @param end          结束位置（不包含）
+     * @param defaultValue 无法解析或超出范围时返回的默认值
+     * @return 解析后的值或默认值
+     */
+    static long parseLong(byte[] value, int start, int end, long defaultValue) {
+        if (start >= end) {
+            return defaultValue;
+        }
+        int index = start;
+        byte b = value[index];
+        boolean negative = false;
+        if (b == '-' || b == '+') {
+            negative = b == '-';
+            if (++index == end) {
+                return defaultValue;
+            }
+            b = value[index];
+        }
+        if (b == '#' || b == '0' && index + 1 < end && (value[index + 1] | 0x20) == 'x') {
+            return parseHexLong(value, index + (b == '#' ? 1 : 2), end, negative, defaultValue);
+        }
+        int digitsStart = index;
+        long result = 0;
+        // 前 16 位数字不会溢出，直接按 8 位一组累加
+        while (end - index >= 8 && index + 8 - digitsStart <= 16) {
+            long word = readLongLittleEndian(value, index);
+            if (!isEightDigits(word)) {
+                break;
+            }
+            result = result * 100000000L + parseEightDigits(word);
+            index += 8;
+        }
+        if (index == end) {
+            return negative ? -result : result;
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multmin = limit / 10;
+        result = -result;
+        for (; index < end; index++) {
+            int digit = value[index] - '0';
+            if (digit < 0 || digit > 9 || result < multmin) {
+                return defaultValue;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return defaultValue;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * 解析 {@code ByteBuffer} 中 {@code [position, limit)} 范围内的 ASCII 字符为 {@code long}，不会修改缓冲区的位置
+     *
+     * @see AsciiNumberParser#parseLong(byte[], int, int, long)
+     */
+    static long parseLong(ByteBuffer buffer, long defaultValue) {
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return parseLong(buffer.array(), offset + buffer.position(), offset + buffer.limit(), defaultValue);
+        }
+        int index = buffer.position();
+        int end = buffer.limit();
+        if (index >= end) {
+            return defaultValue;
+        }
+        byte b = buffer.get(index);
+        boolean negative = false;
+        if (b == '-' || b == '+') {
+            negative = b == '-';
+            if (++index == end) {
+                return defaultValue;
+            }
+            b = buffer.get(index);
+        }
+        if (b == '#' || b == '0' && index + 1 < end && (buffer.get(index + 1) | 0x20) == 'x') {
+            return parseLong(copyToScratch(buffer), 0, buffer.remaining(), defaultValue);
+        }
+        boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+        int digitsStart = index;
+        long result = 0;
+        while (end - index >= 8 && index + 8 - digitsStart <= 16) {
+            long word = buffer.getLong(index);
+            if (bigEndian) {
+                word = Long.reverseBytes(word);
+            }
+            if (!isEightDigits(word)) {
+                break;
+            }
+            result = result * 100000000L + parseEightDigits(word);
+            index += 8;
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multmin = limit / 10;
+        result = -result;
+        for (; index < end; index++) {
+            int digit = buffer.get(index) - '0';
+            if (digit < 0 || digit > 9 || result < multmin) {
+                return defaultValue;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return defaultValue;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static long parseHexLong(byte[] value, int index, int end, boolean negative, long defaultValue) {
+        if (index >= end) {
+            return defaultValue;
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multmin = limit / 16;
+        long result = 0;
+        for (; index < end; index++) {
+            int digit = NumberParser.digit((char) (value[index] & 0xff), 16);
+            if (digit < 0 || result < multmin) {
+                return defaultValue;
+            }
+            result *= 16;
+            if (result < limit + digit) {
+                return defaultValue;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * 解析字节数组中 {@code [start, end)} 范围内的 ASCII 字符为 {@code double}，规则与 {@link NumberParser#parseDouble(CharSequence, double)} 一致
+     *
+     * @param value        要解析的字节数组
+     * @param start        起始位置（包含）
+     * @param end          结束位置（不包含）
+     * @param single       是否解析为单精度浮点数
+     * @param defaultValue 无法解析时返回的默认值
+     * @return 解析后的值或默认值
+     */
+    static double parseDouble(byte[] value, int start, int end, boolean single, double defaultValue) {
+        while (start < end && (value[start] & 0xff) <= ' ') {
+            start++;
+        }
+        while (end > start && (value[end - 1] & 0xff) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return defaultValue;
+        }
+        int index = start;
+        byte b = value[index];
+        boolean negative = false;
+        if (b == '-' || b == '+') {
+            negative = b == '-';
+            if (++index == end) {
+                return defaultValue;
+            }
+            b = value[index];
+        }
+        if (b < '0' && b != '.' || b > '9' || b == '0' && index + 1 < end && (value[index + 1] | 0x20) == 'x') {
+            // NaN、Infinity、十六进制浮点数等少见格式交给字符串解析
+            return parseDoubleAsString(value, start, end, single, defaultValue);
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean anyDigits = false;
+        boolean truncated = false;
+        while (end - index >= 8 && significantDigits + 8 <= 18) {
+            long word = readLongLittleEndian(value, index);
+            if (!isEightDigits(word)) {
+                break;
+            }
+            anyDigits = true;
+            mantissa = mantissa * 100000000L + parseEightDigits(word);
+            significantDigits = digitCount(mantissa);
+            index += 8;
+        }
+        for (; index < end; index++) {
+            b = value[index];
+            if (b < '0' || b > '9') {
+                break;
+            }
+            anyDigits = true;
+            if (significantDigits < 19) {
+                mantissa = mantissa * 10 + (b - '0');
+                if (mantissa != 0) {
+                    significantDigits++;
+                }
+            } else {
+                exponent++;
+                truncated |= b != '0';
+            }
+        }
+        if (index < end && value[index] == '.') {
+            index++;
+            while (end - index >= 8 && significantDigits + 8 <= 18) {
+                long word = readLongLittleEndian(value, index);
+                if (!isEightDigits(word)) {
+                    break;
+                }
+                anyDigits = true;
+                mantissa = mantissa * 100000000L + parseEightDigits(word);
+                significantDigits = digitCount(mantissa);
+                exponent -= 8;
+                index += 8;
+            }
+            for (; index < end; index++) {
+                b = value[index];
+                if (b < '0' || b > '9') {
+                    break;
+                }
+                anyDigits = true;
+                if (significantDigits < 19) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    exponent--;
+                    if (mantissa != 0) {
+                        significantDigits++;
+                    }
+                } else {
+                    truncated |= b != '0';
+                }
+            }
+        }
+        if (!anyDigits) {
+            return defaultValue;
+        }
+        if (index < end && (value[index] | 0x20) == 'e') {
+            if (++index == end) {
+                return defaultValue;
+            }
+            b = value[index];
+            boolean negativeExponent = false;
+            if (b == '-' || b == '+') {
+                negativeExponent = b == '-';
+                index++;
+            }
+            int exponentStart = index;
+            int explicitExponent = 0;
+            for (; index < end; index++) {
+                b = value[index];
+                if (b < '0' || b > '9') {
+                    break;
+                }
+                if (explicitExponent < 100000) {
+                    explicitExponent = explicitExponent * 10 + (b - '0');
+                }
+            }
+            if (index == exponentStart) {
+                return defaultValue;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (index < end && NumberParser.isTypeSuffix((char) value[index])) {
+            index++;
+        }
+        if (index != end) {
+            return defaultValue;
+        }
+        double result = NumberParser.toDouble(negative, mantissa, exponent, truncated, single);
+        return result == result ? result : parseDoubleAsString(value, start, end, single, defaultValue);
+    }
+
+    /**
+     * 解析 {@code ByteBuffer} 中 {@code [position, limit)} 范围内的 ASCII 字符为 {@code double}，不会修改缓冲区的位置
+     *
+     * @see AsciiNumberParser#parseDouble(byte[], int, int, boolean, double)
+     */
+    static double parseDouble(ByteBuffer buffer, boolean single, double defaultValue) {
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return parseDouble(buffer.array(), offset + buffer.position(), offset + buffer.limit(), single, defaultValue);
+        }
+        return parseDouble(copyToScratch(buffer), 0, buffer.remaining(), single, defaultValue);
+    }
+
+    /**
+     * 将 {@code ByteBuffer} 中剩余的字节解码为字符串（ISO-8859-1），用于 {@code BigInteger} 等需要创建对象的目标类型
+     */
+    static String toAsciiString(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(),
+                StandardCharsets.ISO_8859_1);
+        }
+        return new String(copyToScratch(buffer), 0, buffer.remaining(), StandardCharsets.ISO_8859_1);
+    }
+
+    private static double parseDoubleAsString(byte[] value, int start, int end, boolean single, double defaultValue) {
+        String text = new String(value, start, end - start, StandardCharsets.ISO_8859_1);
+        return single ? NumberParser.parseFloat(text, (float) defaultValue) : NumberParser.parseDouble(text, defaultValue);
+    }
+
+    /**
+     * 将直接缓冲区中剩余的字节复制到当前线程的临时数组中，数字文本通常较短，从而避免每次解析都分配新数组
+     */
+    private static byte[] copyToScratch(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        byte[] scratch = length <= SCRATCH_SIZE ? SCRATCH.get() : new byte[length];
+        for (int i = 0, position = buffer.position(); i < length; i++) {
+            scratch[i] = buffer.get(position + i);
+        }
+        return scratch;
+    }
+
+    private static long readLongLittleEndian(byte[] value, int index) {
+        return (value[index] & 0xffL)
+            | (value[index + 1] & 0xffL) << 8
+            | (value[index + 2] & 0xffL) << 16
+            | (value[index + 3] & 0xffL) << 24
+            | (value[index + 4] & 0xffL) << 32
+            | (value[index + 5] & 0xffL) << 40
+            | (value[index + 6] & 0xffL) << 48
+            | (value[index + 7] & 0xffL) << 56;
+    }
+
+    /**
+     * 判断按小端序读取的 8 个字节是否全部为 ASCII 数字
+     */
+    static boolean isEightDigits(long word) {
+        return ((word & 0xF0F0F0F0F0F0F0F0L)
+            | (((word + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4)) == 0x3333333333333333L;
+    }
+
+    /**
+     * 将按小端序读取的 8 个 ASCII 数字转换为对应的数值，第一个字节为最高位
+     */
+    static int parseEightDigits(long word) {
+        word = (word & 0x0F0F0F0F0F0F0F0FL) * 2561 >>> 8;
+        word = (word & 0x00FF00FF00FF00FFL) * 6553601 >>> 16;
+        return (int) ((word & 0x0000FFFF0000FFFFL) * 42949672960001L >>> 32);
+    }
+
+    private static int digitCount(long value) {
+        int count = 0;
+        while (count < 19 && value >= NumberParser.LONG_POWERS_OF_TEN[count]) {
+            count++;
+        }
+        return count;
+    }
+
+}
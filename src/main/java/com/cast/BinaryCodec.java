@@ -0,0 +1,284 @@
+package com.cast;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 数字与二进制形式之间的转换，可以指定字节序，直接写入调用者提供的 {@code byte[]} 或 {@code ByteBuffer}，不会创建中间数组
+ * <p>各种数字的二进制形式如下：</p>
+ * <ul>
+ *     <li>{@code Byte}：1 个字节</li>
+ *     <li>{@code Short}：2 个字节</li>
+ *     <li>{@code Integer}、{@code AtomicInteger}：4 个字节</li>
+ *     <li>{@code Long}、{@code AtomicLong}：8 个字节</li>
+ *     <li>{@code Float}、{@code Double}：IEEE 754 格式，分别为 4 个及 8 个字节</li>
+ *     <li>{@code BigInteger}：最短的补码形式，长度与 {@link BigInteger#toByteArray()} 一致</li>
+ *     <li>{@code BigDecimal}：4 个字节的 {@code scale}，之后是 {@code unscaledValue} 的最短补码形式</li>
+ * </ul>
+ *
+ * @author Jon
+ */
+public final class BinaryCodec {
+
+    private BinaryCodec() {
+    }
+
+    /**
+     * 取得指定数字的二进制形式的字节数
+     *
+     * @param value 数字
+     * @return 字节数
+     * @throws CastException 不支持的数字类型
+     */
+    public static int sizeOf(Number value) {
+        if (value instanceof Byte) {
+            return 1;
+        }
+        if (value instanceof Short) {
+            return 2;
+        }
+        if (value instanceof Integer || value instanceof AtomicInteger || value instanceof Float) {
+            return 4;
+        }
+        if (value instanceof Long || value instanceof AtomicLong || value instanceof Double) {
+            return 8;
+        }
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).bitLength() / 8 + 1;
+        }
+        if (value instanceof BigDecimal) {
+            return 4 + ((BigDecimal) value).unscaledValue().bitLength() / 8 + 1;
+        }
+        throw new CastException(value.getClass(), byte[].class);
+    }
+
+    /**
+     * 将数字转换为指定字节序的二进制形式
+     *
+     * @param value 数字
+     * @param order 字节序
+     * @return 新的字节数组
+     * @throws CastException 不支持的数字类型
+     */
+    public static byte[] toBytes(Number value, ByteOrder order) {
+        byte[] bytes = new byte[sizeOf(value)];
+        write(value, bytes, 0, order);
+        return bytes;
+    }
+
+    /**
+     * 将数字以指定的字节序写入字节数组的 {@code offset} 位置
+     *
+     * @param value  数字
+     * @param dest   目标字节数组
+     * @param offset 开始写入的位置
+     * @param order  字节序
+     * @return 写入的字节数
+     * @throws CastException             不支持的数字类型
+     * @throws IndexOutOfBoundsException 字节数组的剩余空间不足时，此时不会写入任何内容
+     */
+    public static int write(Number value, byte[] dest, int offset, ByteOrder order) {
+        int size = sizeOf(value);
+        if (offset < 0 || offset > dest.length - size) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", size: " + size + ", length: " + dest.length);
+        }
+        boolean bigEndian = order == ByteOrder.BIG_ENDIAN;
+        if (value instanceof Byte) {
+            dest[offset] = value.byteValue();
+        } else if (value instanceof Short) {
+            writeLong(value.shortValue(), dest, offset, 2, bigEndian);
+        } else if (value instanceof Float) {
+            writeLong(Float.floatToRawIntBits(value.floatValue()), dest, offset, 4, bigEndian);
+        } else if (value instanceof Double) {
+            writeLong(Double.doubleToRawLongBits(value.doubleValue()), dest, offset, 8, bigEndian);
+        } else if (value instanceof Integer || value instanceof AtomicInteger) {
+            writeLong(value.intValue(), dest, offset, 4, bigEndian);
+        } else if (value instanceof Long || value instanceof AtomicLong) {
+            writeLong(value.longValue(), dest, offset, 8, bigEndian);
+        } else if (value instanceof BigInteger) {
+            writeBigInteger((BigInteger) value, dest, offset, size, bigEndian);
+        } else {
+            BigDecimal decimal = (BigDecimal) value;
+            writeLong(decimal.scale(), dest, offset, 4, bigEndian);
+            writeBigInteger(decimal.unscaledValue(), dest, offset + 4, size - 4, bigEndian);
+        }
+        return size;
+    }
+
+    /**
+     * 将数字按缓冲区的字节序写入缓冲区的当前位置，写入后位置向后移动
+     *
+     * @param value 数字
+     * @param dest  目标缓冲区
+     * @return 写入的字节数
+     * @throws CastException           不支持的数字类型
+     * @throws BufferOverflowException 缓冲区的剩余空间不足时，此时不会写入任何内容
+     */
+    public static int write(Number value, ByteBuffer dest) {
+        int size = sizeOf(value);
+        if (dest.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+        if (dest.hasArray() && !dest.isReadOnly()) {
+            write(value, dest.array(), dest.arrayOffset() + dest.position(), dest.order());
+            // 通过 Buffer 调用，Java 8 的 ByteBuffer 没有返回 ByteBuffer 的 position 方法
+            ((Buffer) dest).position(dest.position() + size);
+            return size;
+        }
+        if (value instanceof Byte) {
+            dest.put(value.byteValue());
+        } else if (value instanceof Short) {
+            dest.putShort(value.shortValue());
+        } else if (value instanceof Float) {
+            dest.putFloat(value.floatValue());
+        } else if (value instanceof Double) {
+            dest.putDouble(value.doubleValue());
+        } else if (value instanceof Integer || value instanceof AtomicInteger) {
+            dest.putInt(value.intValue());
+        } else if (value instanceof Long || value instanceof AtomicLong) {
+            dest.putLong(value.longValue());
+        } else {
+            dest.put(toBytes(value, dest.order()));
+        }
+        return size;
+    }
+
+    /**
+     * 按指定的字节序从 {@code offset} 位置读取 2 个字节的 {@code short}
+     *
+     * @throws IndexOutOfBoundsException 字节数组的剩余长度不足时
+     */
+    public static short toShort(byte[] bytes, int offset, ByteOrder order) {
+        return (short) readLong(bytes, offset, 2, order == ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * 按指定的字节序从 {@code offset} 位置读取 4 个字节的 {@code int}
+     *
+     * @throws IndexOutOfBoundsException 字节数组的剩余长度不足时
+     */
+    public static int toInt(byte[] bytes, int offset, ByteOrder order) {
+        return (int) readLong(bytes, offset, 4, order == ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * 按指定的字节序从 {@code offset} 位置读取 8 个字节的 {@code long}
+     *
+     * @throws IndexOutOfBoundsException 字节数组的剩余长度不足时
+     */
+    public static long toLong(byte[] bytes, int offset, ByteOrder order) {
+        return readLong(bytes, offset, 8, order == ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * 按指定的字节序从 {@code offset} 位置读取 4 个字节 IEEE 754 格式的 {@code float}
+     *
+     * @throws IndexOutOfBoundsException 字节数组的剩余长度不足时
+     */
+    public static float toFloat(byte[] bytes, int offset, ByteOrder order) {
+        return Float.intBitsToFloat(toInt(bytes, offset, order));
+    }
+
+    /**
+     * 按指定的字节序从 {@code offset} 位置读取 8 个字节 IEEE 754 格式的 {@code double}
+     *
+     * @throws IndexOutOfBoundsException 字节数组的剩余长度不足时
+     */
+    public static double toDouble(byte[] bytes, int offset, ByteOrder order) {
+        return Double.longBitsToDouble(toLong(bytes, offset, order));
+    }
+
+    /**
+     * 按指定的字节序读取 {@code [offset, offset + length)} 范围内补码形式的 {@code BigInteger}
+     *
+     * @throws IndexOutOfBoundsException 指定的范围超出字节数组的范围时
+     * @throws NumberFormatException     长度为 0 时
+     */
+    public static BigInteger toBigInteger(byte[] bytes, int offset, int length, ByteOrder order) {
+        checkRange(bytes, offset, length);
+        if (order == ByteOrder.BIG_ENDIAN) {
+            return offset == 0 && length == bytes.length ? new BigInteger(bytes) : new BigInteger(copy(bytes, offset, length, true));
+        }
+        return new BigInteger(copy(bytes, offset, length, false));
+    }
+
+    /**
+     * 按指定的字节序读取 {@code [offset, offset + length)} 范围内的 {@code BigDecimal}，前 4 个字节为 {@code scale}
+     *
+     * @throws IndexOutOfBoundsException 指定的范围超出字节数组的范围时
+     * @throws NumberFormatException     长度不超过 4 时
+     */
+    public static BigDecimal toBigDecimal(byte[] bytes, int offset, int length, ByteOrder order) {
+        checkRange(bytes, offset, length);
+        if (length <= 4) {
+            throw new NumberFormatException("a BigDecimal needs at least 5 bytes, but got " + length);
+        }
+        int scale = toInt(bytes, offset, order);
+        return new BigDecimal(toBigInteger(bytes, offset + 4, length - 4, order), scale);
+    }
+
+    private static void writeLong(long value, byte[] dest, int offset, int size, boolean bigEndian) {
+        if (bigEndian) {
+            for (int i = offset + size - 1; i >= offset; i--) {
+                dest[i] = (byte) value;
+                value >>= 8;
+            }
+        } else {
+            for (int i = offset, end = offset + size; i < end; i++) {
+                dest[i] = (byte) value;
+                value >>= 8;
+            }
+        }
+    }
+
+    private static long readLong(byte[] bytes, int offset, int size, boolean bigEndian) {
+        checkRange(bytes, offset, size);
+        long result = 0;
+        if (bigEndian) {
+            for (int i = offset, end = offset + size; i < end; i++) {
+                result = result << 8 | bytes[i] & 0xff;
+            }
+        } else {
+            for (int i = offset + size - 1; i >= offset; i--) {
+                result = result << 8 | bytes[i] & 0xff;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 写入 {@code size} 个字节的补码形式，{@code size} 不小于最短补码形式的长度时高位按符号补齐
+     */
+    private static void writeBigInteger(BigInteger value, byte[] dest, int offset, int size, boolean bigEndian) {
+        if (value.bitLength() < 64) {
+            writeLong(value.longValue(), dest, offset, size, bigEndian);
+            return;
+        }
+        byte[] bytes = value.toByteArray();
+        for (int i = 0; i < size; i++) {
+            // bytes 为大端序，第 i 个字节是从低位数的第 size - 1 - i 个字节
+            dest[bigEndian ? offset + i : offset + size - 1 - i] = bytes[i];
+        }
+    }
+
+    private static byte[] copy(byte[] bytes, int offset, int length, boolean bigEndian) {
+        byte[] result = new byte[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = bigEndian ? bytes[offset + i] : bytes[offset + length - 1 - i];
+        }
+        return result;
+    }
+
+    private static void checkRange(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", size: " + length + ", length: " + bytes.length);
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+package com.cast;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * 将输入流读取为字节数组
+ * <ul>
+ *     <li>能够预先知道长度时（{@code Blob}、{@code FileInputStream}、{@code ByteArrayInputStream}），直接读入长度正好的数组，不会再复制</li>
+ *     <li>长度未知时，依次读入多个分块，最后只复制一次到结果数组中；分块按线程缓存复用，不会每次重新分配</li>
+ *     <li>可以指定读取的上限，超出上限时立即失败，不会把超大的流全部读入内存</li>
+ * </ul>
+ *
+ * @author Jon
+ */
+final class ByteStreamReader {
+
+    private ByteStreamReader() {
+    }
+
+    /**
+     * 表示不限制读取的大小
+     */
+    static final long UNLIMITED = Long.MAX_VALUE;
+
+    /**
+     * 表示长度未知
+     */
+    static final long UNKNOWN_LENGTH = -1;
+
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * 每个线程缓存的分块数量，超出的部分使用后直接丢弃
+     */
+    private static final int POOLED_CHUNKS = 4;
+
+    private static final ThreadLocal<byte[][]> CHUNKS = ThreadLocal.withInitial(() -> new byte[POOLED_CHUNKS][]);
+
+    /**
+     * 读取输入流中剩余的全部字节，读取后关闭输入流
+     *
+     * @param in      输入流
+     * @param maxSize 读取的上限
+     * @return 读取的字节
+     * @throws CastException 读取失败或超出上限时
+     */
+    static byte[] read(InputStream in, long maxSize) {
+        try (InputStream stream = in) {
+            return read(stream, lengthOf(stream), maxSize);
+        } catch (IOException e) {
+            throw new CastException(e);
+        }
+    }
+
+    /**
+     * 读取输入流中剩余的全部字节，不会关闭输入流
+     *
+     * @param in      输入流
+     * @param length  预计的长度，未知时为 {@link #UNKNOWN_LENGTH}，实际长度不同时仍然会正确读取
+     * @param maxSize 读取的上限
+     * @return 读取的字节
+     * @throws IOException   读取失败时
+     * @throws CastException 超出上限时
+     */
+    static byte[] read(InputStream in, long length, long maxSize) throws IOException {
+        if (length > maxSize) {
+            throw exceeded(maxSize);
+        }
+        if (length < 0 || length > Integer.MAX_VALUE - 8) {
+            return readChunks(in, null, 0, maxSize);
+        }
+        byte[] bytes = new byte[(int) length];
+        int count = readFully(in, bytes, 0, bytes.length);
+        if (count < bytes.length) {
+            return Arrays.copyOf(bytes, count);
+        }
+        int next = in.read();
+        if (next == -1) {
+            return bytes;
+        }
+        // 实际长度大于预计的长度，剩余部分按长度未知的方式读取
+        return readChunks(in, bytes, next, maxSize);
+    }
+
+    /**
+     * 取得输入流剩余部分的长度
+     *
+     * @return 剩余部分的长度，无法预先知道时返回 {@link #UNKNOWN_LENGTH}
+     */
+    static long lengthOf(InputStream in) throws IOException {
+        if (in instanceof ByteArrayInputStream) {
+            return in.available();
+        }
+        if (in instanceof FileInputStream) {
+            FileChannel channel = ((FileInputStream) in).getChannel();
+            long size = channel.size();
+            // 管道等特殊文件的大小为 0，视为长度未知
+            return size == 0 ? UNKNOWN_LENGTH : Math.max(size - channel.position(), 0);
+        }
+        return UNKNOWN_LENGTH;
+    }
+
+    /**
+     * 按分块读取长度未知的输入流
+     *
+     * @param prefix 已经读取的部分，没有时为 {@code null}
+     * @param next   {@code prefix} 之后已经读取的一个字节，{@code prefix} 为 {@code null} 时忽略
+     */
+    private static byte[] readChunks(InputStream in, byte[] prefix, int next, long maxSize) throws IOException {
+        byte[][] pool = CHUNKS.get();
+        byte[][] chunks = new byte[POOLED_CHUNKS][];
+        int chunkCount = 0;
+        long total = 0;
+        int position = CHUNK_SIZE;
+        try {
+            if (prefix != null) {
+                chunks[chunkCount++] = takeChunk(pool, 0);
+                chunks[0][0] = (byte) next;
+                position = 1;
+                total = (long) prefix.length + 1;
+                if (total > maxSize) {
+                    throw exceeded(maxSize);
+                }
+            }
+            while (true) {
+                if (position == CHUNK_SIZE) {
+                    if (chunkCount == chunks.length) {
+                        chunks = Arrays.copyOf(chunks, chunkCount * 2);
+                    }
+                    chunks[chunkCount] = takeChunk(pool, chunkCount);
+                    chunkCount++;
+                    position = 0;
+                }
+                int count = in.read(chunks[chunkCount - 1], position, CHUNK_SIZE - position);
+                if (count == -1) {
+                    break;
+                }
+                position += count;
+                total += count;
+                if (total > maxSize) {
+                    throw exceeded(maxSize);
+                }
+            }
+            if (total > Integer.MAX_VALUE - 8) {
+                throw exceeded(Integer.MAX_VALUE - 8);
+            }
+            byte[] result = new byte[(int) total];
+            int offset = 0;
+            if (prefix != null) {
+                System.arraycopy(prefix, 0, result, 0, prefix.length);
+                offset = prefix.length;
+            }
+            for (int i = 0; i < chunkCount; i++) {
+                int length = i == chunkCount - 1 ? position : CHUNK_SIZE;
+                System.arraycopy(chunks[i], 0, result, offset, length);
+                offset += length;
+            }
+            return result;
+        } finally {
+            for (int i = 0; i < chunkCount && i < POOLED_CHUNKS; i++) {
+                pool[i] = chunks[i];
+            }
+        }
+    }
+
+    /**
+     * 从线程缓存中取出第 {@code index} 个分块，取出后在缓存中置空，防止同一线程重入时重复使用
+     */
+    private static byte[] takeChunk(byte[][] pool, int index) {
+        if (index < POOLED_CHUNKS && pool[index] != null) {
+            byte[] chunk = pool[index];
+            pool[index] = null;
+            return chunk;
+        }
+        return new byte[CHUNK_SIZE];
+    }
+
+    private static int readFully(InputStream in, byte[] bytes, int offset, int length) throws IOException {
+        int total = 0;
+        while (total < length) {
+            int count = in.read(bytes, offset + total, length - total);
+            if (count == -1) {
+                break;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    private static CastException exceeded(long maxSize) {
+        return new CastException("the stream exceeds the maximum size of " + maxSize + " bytes");
+    }
+
+}
@@ -1,14 +1,26 @@
 package com.cast;
 
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.sql.Clob;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.util.Collection;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.TimeZone;
 
 /**
@@ -38,7 +50,7 @@ public final class Cast {
      */
     public static Character toChar(Object obj, Character defaultValue) {
         try {
-            Character result = Converter.TO_CHAR_CONVERTER.convert(obj);
+            Character result = Converter.TO_CHAR_CONVERTER.tryConvert(obj);
             return result == null ? defaultValue : result;
         } catch (Exception e) {
             return defaultValue;
@@ -57,6 +69,18 @@ public final class Cast {
         return Converter.TO_CHAR_CONVERTER.convert(obj);
     }
 
+    /**
+     * 将指定对象转换为 {@code char}，转换规则与 {@link Cast#toChar(Object, Character)} 一致，
+     * 该方法直接返回基本类型，不会创建包装类型对象
+     *
+     * @param obj 要转化的对象
+     * @param defaultValue 默认值
+     * @return 转化后的 {@code char} 或指定的默认值
+     */
+    public static char toCharValue(Object obj, char defaultValue) {
+        return Converter.TO_CHAR_CONVERTER.charValue(obj, defaultValue);
+    }
+
     /**
      * 将指定对象转换为 {@code String}，如果不能转换为 {@code String}，则返回指定的默认值
      * <p>遵循如下规则：</p>
@@ -66,6 +90,10 @@ public final class Cast {
      *     <li>如果要转化的对象为数组或集合，则会直接调用元素的 {@code String.valueOf} 方法，并且将其连接起来，用英文逗号分隔。例：[1,2,3] - "1,2,3"</li>
      *     <li>如果要转化的对象为 {@code Clob}，则将其转换为 {@code String}，{@link Clob#getCharacterStream()}</li>
      *     <li>如果要转化的对象为 {@code Enum}，则会调动枚举对象的 {@code name} 方法</li>
+     *     <li>
+     *         如果要转化的对象为 {@code Date} 或 {@code Calendar}，则转换为 ISO-8601 形式的字符串，例：{@code 2019-06-01T13:45:30.123+08:00}，
+     *         {@code java.sql.Date} 只包含日期，{@code java.sql.Time} 只包含时间，{@code Timestamp} 保留纳秒精度
+     *     </li>
      *     <li>其他类型，则会直接调用 {@code toString} 方法</li>
      * </ul>
      *
@@ -94,6 +122,83 @@ public final class Cast {
         return Converter.TO_STRING_CONVERTER.convert(obj);
     }
 
+    /**
+     * 将数组或集合中的元素用指定的分隔符连接为 {@code String}，其他对象的转换规则与 {@link Cast#toStr(Object)} 一致
+     * <p>忽略 {@code null} 元素及转换后为空字符串的元素，基本类型数组的元素直接写入，不会装箱。例：
+     * {@code Cast.join(new int[]{1, 2, 3}, "; ")} - "1; 2; 3"</p>
+     *
+     * @param obj       要转化的对象
+     * @param delimiter 分隔符，为 {@code null} 时使用英文逗号
+     * @return 转化后的 {@code String}，对象为 {@code null} 时返回 {@code null}
+     * @throws CastException 指定对象不能转换为 {@code String} 时
+     */
+    public static String join(Object obj, CharSequence delimiter) {
+        return Converter.TO_STRING_CONVERTER.join(obj, delimiter);
+    }
+
+    /**
+     * 将指定对象转换后直接写入 {@code StringBuilder}，不会创建中间的 {@code String}
+     * <p>写入的内容与 {@link Cast#toStr(Object)} 的结果一致：数组及集合的元素、数字、日期直接写入，{@code Clob} 分块读取后写入。
+     * 对象为 {@code null} 时不写入任何内容</p>
+     *
+     * @param builder 写入的目标
+     * @param obj     要转化的对象
+     * @return 指定的 {@code StringBuilder}
+     * @throws CastException 读取 {@code Clob} 失败时
+     */
+    public static StringBuilder appendTo(StringBuilder builder, Object obj) {
+        Converter.TO_STRING_CONVERTER.appendTo(builder, obj);
+        return builder;
+    }
+
+    /**
+     * 将指定对象转换后直接写入 {@code Writer}，写入的内容与 {@link Cast#toStr(Object)} 的结果一致
+     * <p>{@code Clob} 分块读取后写入，数组及集合逐个元素写入，不会先生成完整的结果。不会刷新或关闭 {@code Writer}</p>
+     *
+     * @param writer 写入的目标
+     * @param obj    要转化的对象
+     * @return 指定的 {@code Writer}
+     * @throws CastException 读取 {@code Clob} 或写入失败时
+     */
+    public static Writer appendTo(Writer writer, Object obj) {
+        Converter.TO_STRING_CONVERTER.appendTo(writer, obj);
+        return writer;
+    }
+
+    /**
+     * 将指定对象转换后写入 {@code Appendable}，写入的内容与 {@link Cast#toStr(Object)} 的结果一致
+     * <p>目标是 {@code StringBuilder} 或 {@code Writer} 时与对应的重载方法一致</p>
+     *
+     * @param out 写入的目标
+     * @param obj 要转化的对象
+     * @return 指定的 {@code Appendable}
+     * @throws CastException 读取 {@code Clob} 或写入失败时
+     */
+    public static Appendable appendTo(Appendable out, Object obj) {
+        Converter.TO_STRING_CONVERTER.appendTo(out, obj);
+        return out;
+    }
+
+    /**
+     * 按指定的格式将日期时间转换为 {@code String}，如果不能转换，则返回指定的默认值
+     * <p>{@code Date}、{@code Calendar}、{@code java.time} 中的类型按格式转换，{@code Date}、{@code Instant} 使用默认时区，
+     * {@code Calendar} 使用其自身的时区；其他类型的转换规则与 {@link Cast#toStr(Object, String)} 一致</p>
+     * <p>格式会在首次使用时编译并缓存，可以通过 {@link Cast#registerDateFormat(String...)} 预先注册</p>
+     *
+     * @param obj          要转化的对象
+     * @param format       日期格式，规则见 {@link java.time.format.DateTimeFormatter#ofPattern(String)}，为空时与 {@link Cast#toStr(Object, String)} 一致
+     * @param defaultValue 如果不能转换（包括对象中没有格式需要的字段），提供的默认值
+     * @return 转化后的 {@code String} 或默认值
+     */
+    public static String toStr(Object obj, String format, String defaultValue) {
+        try {
+            String result = Converter.TO_STRING_CONVERTER.convert(obj, format);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
     /**
      * 将指定对象转换为 {@code Boolean}，如果不能转换，则返回提供的默认值
      * <p>遵循如下规则：</p>
@@ -101,9 +206,11 @@ public final class Cast {
      *     <li>如果为 {@code null}，直接返回默认值</li>
      *     <li>如果为 {@code Boolean} 实例，直接返回</li>
      *     <li>
-     *         如果为 {@code CharSequence} 或 {@code Character} 的实例，首先会将其转换为 {@code String}，如果其值为 "true"、"on"、"yes"、"1"，将返回 true；
-     *         如果值为 "false"、"off"、"no"、"0"，将返回 false
+     *         如果为 {@code CharSequence} 或 {@code Character} 的实例，直接在字符序列上匹配，如果其值为 "true"、"on"、"yes"、"1"，将返回 true；
+     *         如果值为 "false"、"off"、"no"、"0"，将返回 false，比较时忽略大小写；
+     *         通过 {@link Cast#addTrueValues(String...)} 及 {@link Cast#addFalseValues(String...)} 注册的值也同样适用
      *     </li>
+     *     <li>如果为 {@code Number} 的实例，0 返回 false，非 0 返回 true，{@code NaN} 视为不能转换</li>
      *     <li>其他情况则直接返回提供的默认值</li>
      * </ul>
      *
@@ -113,7 +220,7 @@ public final class Cast {
      */
     public static Boolean toBool(Object obj, Boolean defaultValue) {
         try {
-            Boolean result = Converter.TO_BOOLEAN_CONVERTER.convert(obj);
+            Boolean result = Converter.TO_BOOLEAN_CONVERTER.tryConvert(obj);
             return result == null ? defaultValue : result;
         } catch (Exception e) {
             return defaultValue;
@@ -132,6 +239,42 @@ public final class Cast {
         return Converter.TO_BOOLEAN_CONVERTER.convert(obj);
     }
 
+    /**
+     * 将指定对象转换为 {@code boolean}，转换规则与 {@link Cast#toBool(Object, Boolean)} 一致，
+     * 该方法直接返回基本类型，并且匹配字符串时不会创建新的字符串
+     *
+     * @param obj 要转化的对象
+     * @param defaultValue 提供的默认值，如果不能转换为 {@code boolean} 则会返回该值
+     * @return 转化后的 {@code boolean} 值
+     */
+    public static boolean toBooleanValue(Object obj, boolean defaultValue) {
+        return Converter.TO_BOOLEAN_CONVERTER.booleanValue(obj, defaultValue);
+    }
+
+    /**
+     * 注册额外的表示 {@code true} 的字符串，例如 "y"、"enabled"，比较时忽略大小写
+     * <p>只有默认规则无法匹配时才会查找注册的值，因此不会影响默认规则的转换速度；与默认规则冲突的值会被忽略；
+     * 同时注册为 {@code true} 与 {@code false} 的值转换为 {@code true}。该方法应在初始化配置时调用</p>
+     *
+     * @param values 要注册的字符串
+     * @throws IllegalArgumentException 包含 {@code null} 或空字符串时抛出该异常
+     * @see Cast#toBool(Object, Boolean)
+     */
+    public static void addTrueValues(String... values) {
+        ToBooleanConverter.register(true, values);
+    }
+
+    /**
+     * 注册额外的表示 {@code false} 的字符串，例如 "n"、"disabled"，规则与 {@link Cast#addTrueValues(String...)} 一致
+     *
+     * @param values 要注册的字符串
+     * @throws IllegalArgumentException 包含 {@code null} 或空字符串时抛出该异常
+     * @see Cast#addTrueValues(String...)
+     */
+    public static void addFalseValues(String... values) {
+        ToBooleanConverter.register(false, values);
+    }
+
     /**
      * 将指定对象转换为 {@code Byte}，如果不能转换则返回指定的默认值
      * <p>遵循如下规则：</p>
@@ -140,6 +283,7 @@ public final class Cast {
      *     <li>如果指定的对象为 {@code Number}，则会调用 {@code byteValue()}方法将其转换为 {@code Byte}，有可能会损失精度</li>
      *     <li>如果指定的对象为 {@code CharSequence}，则会调用 {@link Byte#valueOf(byte)} 或 {@link Byte#decode(String)} 方法将其转换为 {@code Byte}</li>
      *     <li>如果指定对象为 Enum，则会调用枚举的 {@link Enum#ordinal()} 方法返回 {@code Byte} 值</li>
+     *     <li>如果指定对象为 {@code ByteBuffer}，则会将其剩余的字节作为 ASCII 字符串直接解析，不会修改缓冲区的位置</li>
      * </ul>
      *
      * @param obj 要转换的对象
@@ -148,7 +292,7 @@ public final class Cast {
      */
     public static Byte toByte(Object obj, Byte defaultValue) {
         try {
-            Byte result = Converter.TO_NUMBER_CONVERTER.convert(obj, Byte.class);
+            Byte result = Converter.TO_NUMBER_CONVERTER.tryConvert(obj, Byte.class);
             return result == null ? defaultValue : result;
         } catch (Exception e) {
             return defaultValue;
@@ -176,7 +320,7 @@ public final class Cast {
      */
     public static Short toShort(Object obj, Short defaultValue) {
         try {
-            Short result = Converter.TO_NUMBER_CONVERTER.convert(obj, Short.class);
+            Short result = Converter.TO_NUMBER_CONVERTER.tryConvert(obj, Short.class);
             return result == null ? defaultValue : result;
         } catch (Exception e) {
             return defaultValue;
@@ -205,7 +349,7 @@ public final class Cast {
      */
     public static Integer toInteger(Object obj, Integer defaultValue) {
         try {
-            Integer result = Converter.TO_NUMBER_CONVERTER.convert(obj, Integer.class);
+            Integer result = Converter.TO_NUMBER_CONVERTER.tryConvert(obj, Integer.class);
             return result == null ? defaultValue : result;
         } catch (Exception e) {
             return defaultValue;
@@ -234,7 +378,7 @@ public final class Cast {
      */
     public static Long toLong(Object obj, Long defaultValue) {
         try {
-            Long result = Converter.TO_NUMBER_CONVERTER.convert(obj, Long.class);
+            Long result = Converter.TO_NUMBER_CONVERTER.tryConvert(obj, Long.class);
             return result == null ? defaultValue : result;
         } catch (Exception e) {
             return defaultValue;
@@ -263,7 +407,7 @@ public final class Cast {
      */
     public static Float toFloat(Object obj, Float defaultValue) {
         try {
-            Float result = Converter.TO_NUMBER_CONVERTER.convert(obj, Float.class);
+            Float result = Converter.TO_NUMBER_CONVERTER.tryConvert(obj, Float.class);
             return result == null ? defaultValue : result;
         } catch (Exception e) {
             return defaultValue;
@@ -292,7 +436,7 @@ public final class Cast {
      */
     public static Double toDouble(Object obj, Double defaultValue) {
         try {
-            Double result = Converter.TO_NUMBER_CONVERTER.convert(obj, Double.class);
+            Double result = Converter.TO_NUMBER_CONVERTER.tryConvert(obj, Double.class);
             return result == null ? defaultValue : result;
         } catch (Exception e) {
             return defaultValue;
@@ -321,7 +465,7 @@ public final class Cast {
      */
     public static BigInteger toBigInteger(Object obj, BigInteger defaultValue) {
         try {
-            BigInteger result = Converter.TO_NUMBER_CONVERTER.convert(obj, BigInteger.class);
+            BigInteger result = Converter.TO_NUMBER_CONVERTER.tryConvert(obj, BigInteger.class);
             return result == null ? defaultValue : result;
         } catch (Exception e) {
             return defaultValue;
@@ -350,7 +494,7 @@ public final class Cast {
      */
     public static BigDecimal toBigDecimal(Object obj, BigDecimal defaultValue) {
         try {
-            BigDecimal result = Converter.TO_NUMBER_CONVERTER.convert(obj, BigDecimal.class);
+            BigDecimal result = Converter.TO_NUMBER_CONVERTER.tryConvert(obj, BigDecimal.class);
             return result == null ? defaultValue : result;
         } catch (Exception e) {
             return defaultValue;
@@ -370,146 +514,1123 @@ public final class Cast {
     }
 
     /**
-     * 将指定的对象转换为字节数组，如果不能转换返回提供的默认值
+     * 将指定对象转换为 {@code byte}，如果不能转换则返回指定的默认值
+     * <p>转换规则与 {@link Cast#toByte(Object, Byte)} 一致，但该方法直接返回基本类型，对于 {@code Number}、{@code CharSequence}、
+     * {@code Character} 以及枚举类型的输入，转换过程中不会创建包装类型或中间字符串对象</p>
      *
      * @param obj 要转换的对象
-     * @param defaultValue 无法完成转换时的的默认值
-     * @return 转换后的字节数组或指定的默认值
+     * @param defaultValue 提供的默认值
+     * @return 转换后的 {@code byte} 值或指定的默认值
      */
-    public static byte[] toBytes(Object obj, byte[] defaultValue) {
-        try {
-            byte[] result = Converter.TO_BYTES_ARRAY_CONVERTER.convert(obj);
-            return result == null ? defaultValue : result;
-        } catch (Exception e) {
-            return defaultValue;
-        }
+    public static byte toByteValue(Object obj, byte defaultValue) {
+        return Converter.TO_NUMBER_CONVERTER.byteValue(obj, defaultValue);
     }
 
     /**
-     * 将指定的对象转换为字节数组，如果不能转换将会抛出异常
+     * 将指定对象转换为 {@code short}，如果不能转换则返回指定的默认值，转换规则与 {@link Cast#toByteValue(Object, byte)} 类似.
      *
      * @param obj 要转换的对象
-     * @return 转换后的字节数组或指定的默认值
-     * @throws CastException 如果不能转换将会抛出该异常
+     * @param defaultValue 提供的默认值
+     * @return 转换后的 {@code short} 值或指定的默认值
+     * @see Cast#toByteValue(Object, byte)
      */
-    public static byte[] toBytes(Object obj) {
-        return Converter.TO_BYTES_ARRAY_CONVERTER.convert(obj);
+    public static short toShortValue(Object obj, short defaultValue) {
+        return Converter.TO_NUMBER_CONVERTER.shortValue(obj, defaultValue);
     }
 
     /**
-     * 将指定的转换为 {@code Date} 类型，如果不能发生转换则返回指定的默认值
+     * 将指定对象转换为 {@code int}，如果不能转换则返回指定的默认值，转换规则与 {@link Cast#toByteValue(Object, byte)} 类似.
      *
      * @param obj 要转换的对象
-     * @param defaultValue 提供的无法转换时的默认值
-     * @return 转换后的 {@code Date} 值
+     * @param defaultValue 提供的默认值
+     * @return 转换后的 {@code int} 值或指定的默认值
+     * @see Cast#toByteValue(Object, byte)
      */
-    public static Date toDate(Object obj, Date defaultValue) {
-        try {
-            Date result = Converter.TO_DATE_CONVERTER.convert(obj);
-            return result == null ? defaultValue : result;
-        } catch (Exception e) {
-            return defaultValue;
-        }
+    public static int toIntValue(Object obj, int defaultValue) {
+        return Converter.TO_NUMBER_CONVERTER.intValue(obj, defaultValue);
     }
 
     /**
-     * 将指定的转换为 {@code Date} 类型，如果不能发生转换将会抛出异常
+     * 将指定对象转换为 {@code long}，如果不能转换则返回指定的默认值，转换规则与 {@link Cast#toByteValue(Object, byte)} 类似.
      *
      * @param obj 要转换的对象
-     * @return 转换后的 {@code Date} 值
-     * @throws CastException 不能发生转换时抛出该异常
+     * @param defaultValue 提供的默认值
+     * @return 转换后的 {@code long} 值或指定的默认值
+     * @see Cast#toByteValue(Object, byte)
      */
-    public static Date toDate(Object obj) {
-        return Converter.TO_DATE_CONVERTER.convert(obj);
+    public static long toLongValue(Object obj, long defaultValue) {
+        return Converter.TO_NUMBER_CONVERTER.longValue(obj, defaultValue);
     }
 
-    public static Date toDate(Object obj, String format, Date defaultValue) {
-        try {
-            Date result = new ToDateConverter(format).convert(obj);
-            return result == null ? defaultValue : result;
-        } catch (Exception e) {
-            return defaultValue;
-        }
+    /**
+     * 将指定对象转换为 {@code float}，如果不能转换则返回指定的默认值，转换规则与 {@link Cast#toByteValue(Object, byte)} 类似.
+     *
+     * @param obj 要转换的对象
+     * @param defaultValue 提供的默认值
+     * @return 转换后的 {@code float} 值或指定的默认值
+     * @see Cast#toByteValue(Object, byte)
+     */
+    public static float toFloatValue(Object obj, float defaultValue) {
+        return Converter.TO_NUMBER_CONVERTER.floatValue(obj, defaultValue);
     }
 
-    public static Date toDate(Object obj, String format) {
-        return new ToDateConverter(format).convert(obj);
+    /**
+     * 将指定对象转换为 {@code double}，如果不能转换则返回指定的默认值，转换规则与 {@link Cast#toByteValue(Object, byte)} 类似.
+     *
+     * @param obj 要转换的对象
+     * @param defaultValue 提供的默认值
+     * @return 转换后的 {@code double} 值或指定的默认值
+     * @see Cast#toByteValue(Object, byte)
+     */
+    public static double toDoubleValue(Object obj, double defaultValue) {
+        return Converter.TO_NUMBER_CONVERTER.doubleValue(obj, defaultValue);
     }
 
-    public static java.sql.Date toSqlDate(Object obj, java.sql.Date defaultValue) {
-        try {
-            java.sql.Date result = Converter.TO_DATE_CONVERTER.convert(obj, java.sql.Date.class);
-            return result == null ? defaultValue : result;
-        } catch (Exception e) {
-            return defaultValue;
-        }
+    /**
+     * 以严格模式将指定对象转换为 {@code byte}，如果不能无损地完成转换则返回指定的默认值
+     * <p>与 {@link Cast#toByteValue(Object, byte)} 不同，该方法不会截断数值，以下情况都视为不能转换：</p>
+     * <ul>
+     *     <li>数字包含小数部分，例如 {@code 1.5}、{@code new BigDecimal("2.50")}</li>
+     *     <li>数字超出 {@code byte} 的范围，例如 {@code 300L}、{@code 1e20}</li>
+     *     <li>{@code NaN} 及无穷大</li>
+     *     <li>字符串无法解析为整数</li>
+     * </ul>
+     * <p>检查只使用基本类型的比较，对于 {@code BigInteger} 使用 {@link BigInteger#bitLength()}，不会创建额外的对象，
+     * 开销与宽松模式相当</p>
+     *
+     * @param obj 要转换的对象
+     * @param defaultValue 提供的默认值
+     * @return 转换后的 {@code byte} 值或指定的默认值
+     */
+    public static byte toByteExact(Object obj, byte defaultValue) {
+        return (byte) Converter.TO_NUMBER_CONVERTER.exactValue(obj, Byte.MIN_VALUE, Byte.MAX_VALUE, defaultValue);
     }
 
-    public static java.sql.Date toSqlDate(Object obj, String format, java.sql.Date defaultValue) {
-        try {
-            java.sql.Date result = new ToDateConverter(format).convert(obj, java.sql.Date.class);
-            return result == null ? defaultValue : result;
-        } catch (Exception e) {
-            return defaultValue;
-        }
+    /**
+     * 以严格模式将指定对象转换为 {@code byte}，如果不能无损地完成转换将抛出异常，转换规则与 {@link Cast#toByteExact(Object, byte)} 一致
+     *
+     * @param obj 要转换的对象
+     * @return 转换后的 {@code byte} 值
+     * @throws CastException 不能无损地完成转换或指定对象为 {@code null} 时抛出该异常
+     * @see Cast#toByteExact(Object, byte)
+     */
+    public static byte toByteExact(Object obj) {
+        return (byte) Converter.TO_NUMBER_CONVERTER.exactValue(obj, Byte.MIN_VALUE, Byte.MAX_VALUE, byte.class);
     }
 
-    public static Timestamp toSqlTimestamp(Object obj, Timestamp defaultValue) {
-        try {
-            Timestamp result = Converter.TO_DATE_CONVERTER.convert(obj, Timestamp.class);
-            return result == null ? defaultValue : result;
-        } catch (Exception e) {
-            return defaultValue;
-        }
+    /**
+     * 以严格模式将指定对象转换为 {@code short}，如果不能无损地完成转换则返回指定的默认值，转换规则与 {@link Cast#toByteExact(Object, byte)} 类似.
+     *
+     * @param obj 要转换的对象
+     * @param defaultValue 提供的默认值
+     * @return 转换后的 {@code short} 值或指定的默认值
+     * @see Cast#toByteExact(Object, byte)
+     */
+    public static short toShortExact(Object obj, short defaultValue) {
+        return (short) Converter.TO_NUMBER_CONVERTER.exactValue(obj, Short.MIN_VALUE, Short.MAX_VALUE, defaultValue);
     }
 
-    public static Timestamp toSqlTimestamp(Object obj, String format, Timestamp defaultValue) {
-        try {
-            Timestamp result = new ToDateConverter(format).convert(obj, Timestamp.class);
-            return result == null ? defaultValue : result;
-        } catch (Exception e) {
-            return defaultValue;
-        }
+    /**
+     * 以严格模式将指定对象转换为 {@code short}，如果不能无损地完成转换将抛出异常，转换规则与 {@link Cast#toByteExact(Object, byte)} 类似.
+     *
+     * @param obj 要转换的对象
+     * @return 转换后的 {@code short} 值
+     * @throws CastException 不能无损地完成转换或指定对象为 {@code null} 时抛出该异常
+     * @see Cast#toByteExact(Object, byte)
+     */
+    public static short toShortExact(Object obj) {
+        return (short) Converter.TO_NUMBER_CONVERTER.exactValue(obj, Short.MIN_VALUE, Short.MAX_VALUE, short.class);
     }
 
-    public static Time toSqlTime(Object obj, Time defaultValue) {
-        try {
-            Time result = Converter.TO_DATE_CONVERTER.convert(obj, Time.class);
-            return result == null ? defaultValue : result;
-        } catch (Exception e) {
-            return defaultValue;
-        }
+    /**
+     * 以严格模式将指定对象转换为 {@code int}，如果不能无损地完成转换则返回指定的默认值，转换规则与 {@link Cast#toByteExact(Object, byte)} 类似.
+     *
+     * @param obj 要转换的对象
+     * @param defaultValue 提供的默认值
+     * @return 转换后的 {@code int} 值或指定的默认值
+     * @see Cast#toByteExact(Object, byte)
+     */
+    public static int toIntExact(Object obj, int defaultValue) {
+        return (int) Converter.TO_NUMBER_CONVERTER.exactValue(obj, Integer.MIN_VALUE, Integer.MAX_VALUE, defaultValue);
     }
 
-    public static Time toSqlTime(Object obj, String format, Time defaultValue) {
-        try {
-            Time result = new ToDateConverter(format).convert(obj, Time.class);
-            return result == null ? defaultValue : result;
-        } catch (Exception e) {
-            return defaultValue;
-        }
+    /**
+     * 以严格模式将指定对象转换为 {@code int}，如果不能无损地完成转换将抛出异常，转换规则与 {@link Cast#toByteExact(Object, byte)} 类似.
+     *
+     * @param obj 要转换的对象
+     * @return 转换后的 {@code int} 值
+     * @throws CastException 不能无损地完成转换或指定对象为 {@code null} 时抛出该异常
+     * @see Cast#toByteExact(Object, byte)
+     */
+    public static int toIntExact(Object obj) {
+        return (int) Converter.TO_NUMBER_CONVERTER.exactValue(obj, Integer.MIN_VALUE, Integer.MAX_VALUE, int.class);
     }
 
     /**
-     * 将指定的对象转换为枚举类型实例，根据指定的 {@code targetClass} 去转换，如果不能转换，返回指定的默认值
+     * 以严格模式将指定对象转换为 {@code long}，如果不能无损地完成转换则返回指定的默认值，转换规则与 {@link Cast#toByteExact(Object, byte)} 类似.
      *
-     * @param obj 要转化的对象
-     * @param targetClass 目标枚举类型
+     * @param obj 要转换的对象
      * @param defaultValue 提供的默认值
-     * @param <T> 枚举类型
-     * @return 转换后的指定类型的枚举值
+     * @return 转换后的 {@code long} 值或指定的默认值
+     * @see Cast#toByteExact(Object, byte)
      */
-    public static <T extends Enum> T toEnum(Object obj, Class<T> targetClass, T defaultValue) {
-        try {
-            T result = Converter.TO_ENUM_CONVERTER.convert(obj, targetClass);
-            return result == null ? defaultValue : result;
-        } catch (Exception e) {
-            return defaultValue;
-        }
+    public static long toLongExact(Object obj, long defaultValue) {
+        return Converter.TO_NUMBER_CONVERTER.exactValue(obj, Long.MIN_VALUE, Long.MAX_VALUE, defaultValue);
     }
 
-    public static <T extends Enum> T toEnum(Object obj, Class<T> targetClass) {
-        return Converter.TO_ENUM_CONVERTER.convert(obj, targetClass);
+    /**
+     * 以严格模式将指定对象转换为 {@code long}，如果不能无损地完成转换将抛出异常，转换规则与 {@link Cast#toByteExact(Object, byte)} 类似.
+     *
+     * @param obj 要转换的对象
+     * @return 转换后的 {@code long} 值
+     * @throws CastException 不能无损地完成转换或指定对象为 {@code null} 时抛出该异常
+     * @see Cast#toByteExact(Object, byte)
+     */
+    public static long toLongExact(Object obj) {
+        return Converter.TO_NUMBER_CONVERTER.exactValue(obj, Long.MIN_VALUE, Long.MAX_VALUE, long.class);
+    }
+
+    /**
+     * 将字符串中 {@code [start, end)} 范围内的字符解析为 {@code int}，如果不能解析则返回指定的默认值
+     * <p>直接在 {@code CharSequence} 上解析，不会创建子字符串，解析规则与 {@link Cast#toInteger(Object, Integer)} 一致</p>
+     *
+     * @param value 要解析的字符串
+     * @param start 起始位置（包含）
+     * @param end 结束位置（不包含）
+     * @param defaultValue 提供的默认值
+     * @return 解析后的 {@code int} 值或指定的默认值
+     * @throws IndexOutOfBoundsException 如果指定的范围超出字符串的范围
+     */
+    public static int toInteger(CharSequence value, int start, int end, int defaultValue) {
+        long result = Converter.TO_NUMBER_CONVERTER.longValue(value, start, end, Long.MIN_VALUE);
+        return result < Integer.MIN_VALUE || result > Integer.MAX_VALUE ? defaultValue : (int) result;
+    }
+
+    /**
+     * 将字符串中 {@code [start, end)} 范围内的字符解析为 {@code long}，如果不能解析则返回指定的默认值
+     * <p>直接在 {@code CharSequence} 上解析，不会创建子字符串，解析规则与 {@link Cast#toLong(Object, Long)} 一致</p>
+     *
+     * @param value 要解析的字符串
+     * @param start 起始位置（包含）
+     * @param end 结束位置（不包含）
+     * @param defaultValue 提供的默认值
+     * @return 解析后的 {@code long} 值或指定的默认值
+     * @throws IndexOutOfBoundsException 如果指定的范围超出字符串的范围
+     */
+    public static long toLong(CharSequence value, int start, int end, long defaultValue) {
+        return Converter.TO_NUMBER_CONVERTER.longValue(value, start, end, defaultValue);
+    }
+
+    /**
+     * 将字符串中 {@code [start, end)} 范围内的字符解析为 {@code double}，如果不能解析则返回指定的默认值
+     * <p>直接在 {@code CharSequence} 上解析，不会创建子字符串，解析规则与 {@link Cast#toDouble(Object, Double)} 一致</p>
+     *
+     * @param value 要解析的字符串
+     * @param start 起始位置（包含）
+     * @param end 结束位置（不包含）
+     * @param defaultValue 提供的默认值
+     * @return 解析后的 {@code double} 值或指定的默认值
+     * @throws IndexOutOfBoundsException 如果指定的范围超出字符串的范围
+     */
+    public static double toDouble(CharSequence value, int start, int end, double defaultValue) {
+        return Converter.TO_NUMBER_CONVERTER.doubleValue(value, start, end, defaultValue);
+    }
+
+    /**
+     * 将字符串中 {@code [start, end)} 范围内的字符解析为 {@code BigInteger}，如果不能解析则返回指定的默认值
+     * <p>直接在 {@code CharSequence} 上解析，不会创建子字符串，解析规则与 {@link Cast#toBigInteger(Object, BigInteger)} 一致</p>
+     *
+     * @param value 要解析的字符串
+     * @param start 起始位置（包含）
+     * @param end 结束位置（不包含）
+     * @param defaultValue 提供的默认值
+     * @return 解析后的 {@code BigInteger} 或指定的默认值
+     * @throws IndexOutOfBoundsException 如果指定的范围超出字符串的范围
+     */
+    public static BigInteger toBigInteger(CharSequence value, int start, int end, BigInteger defaultValue) {
+        BigInteger result = Converter.TO_NUMBER_CONVERTER.tryConvert(value, start, end, BigInteger.class);
+        return result == null ? defaultValue : result;
+    }
+
+    /**
+     * 将字符串中 {@code [start, end)} 范围内的字符解析为 {@code BigDecimal}，如果不能解析则返回指定的默认值
+     * <p>直接在 {@code CharSequence} 上解析，不会创建子字符串，解析规则与 {@link Cast#toBigDecimal(Object, BigDecimal)} 一致</p>
+     *
+     * @param value 要解析的字符串
+     * @param start 起始位置（包含）
+     * @param end 结束位置（不包含）
+     * @param defaultValue 提供的默认值
+     * @return 解析后的 {@code BigDecimal} 或指定的默认值
+     * @throws IndexOutOfBoundsException 如果指定的范围超出字符串的范围
+     */
+    public static BigDecimal toBigDecimal(CharSequence value, int start, int end, BigDecimal defaultValue) {
+        BigDecimal result = Converter.TO_NUMBER_CONVERTER.tryConvert(value, start, end, BigDecimal.class);
+        return result == null ? defaultValue : result;
+    }
+
+    /**
+     * 将字符数组中 {@code [start, end)} 范围内的字符解析为 {@code int}，规则与 {@link Cast#toInteger(CharSequence, int, int, int)} 一致
+     *
+     * @param value 要解析的字符数组
+     * @param start 起始位置（包含）
+     * @param end 结束位置（不包含）
+     * @param defaultValue 提供的默认值
+     * @return 解析后的 {@code int} 值或指定的默认值
+     * @throws IndexOutOfBoundsException 如果指定的范围超出数组的范围
+     */
+    public static int toInteger(char[] value, int start, int end, int defaultValue) {
+        long result = Converter.TO_NUMBER_CONVERTER.longValue(value, start, end, Long.MIN_VALUE);
+        return result < Integer.MIN_VALUE || result > Integer.MAX_VALUE ? defaultValue : (int) result;
+    }
+
+    /**
+     * 将字符数组中 {@code [start, end)} 范围内的字符解析为 {@code long}，规则与 {@link Cast#toLong(CharSequence, int, int, long)} 一致
+     *
+     * @param value 要解析的字符数组
+     * @param start 起始位置（包含）
+     * @param end 结束位置（不包含）
+     * @param defaultValue 提供的默认值
+     * @return 解析后的 {@code long} 值或指定的默认值
+     * @throws IndexOutOfBoundsException 如果指定的范围超出数组的范围
+     */
+    public static long toLong(char[] value, int start, int end, long defaultValue) {
+        return Converter.TO_NUMBER_CONVERTER.longValue(value, start, end, defaultValue);
+    }
+
+    /**
+     * 将字符数组中 {@code [start, end)} 范围内的字符解析为 {@code double}，规则与 {@link Cast#toDouble(CharSequence, int, int, double)} 一致
+     *
+     * @param value 要解析的字符数组
+     * @param start 起始位置（包含）
+     * @param end 结束位置（不包含）
+     * @param defaultValue 提供的默认值
+     * @return 解析后的 {@code double} 值或指定的默认值
+     * @throws IndexOutOfBoundsException 如果指定的范围超出数组的范围
+     */
+    public static double toDouble(char[] value, int start, int end, double defaultValue) {
+        return value == null ? defaultValue : toDouble(CharBuffer.wrap(value), start, end, defaultValue);
+    }
+
+    /**
+     * 将字符数组中 {@code [start, end)} 范围内的字符解析为 {@code BigInteger}，规则与 {@link Cast#toBigInteger(CharSequence, int, int, BigInteger)} 一致
+     *
+     * @param value 要解析的字符数组
+     * @param start 起始位置（包含）
+     * @param end 结束位置（不包含）
+     * @param defaultValue 提供的默认值
+     * @return 解析后的 {@code BigInteger} 或指定的默认值
+     * @throws IndexOutOfBoundsException 如果指定的范围超出数组的范围
+     */
+    public static BigInteger toBigInteger(char[] value, int start, int end, BigInteger defaultValue) {
+        return value == null ? defaultValue : toBigInteger(CharBuffer.wrap(value), start, end, defaultValue);
+    }
+
+    /**
+     * 将字符数组中 {@code [start, end)} 范围内的字符解析为 {@code BigDecimal}，规则与 {@link Cast#toBigDecimal(CharSequence, int, int, BigDecimal)} 一致
+     *
+     * @param value 要解析的字符数组
+     * @param start 起始位置（包含）
+     * @param end 结束位置（不包含）
+     * @param defaultValue 提供的默认值
+     * @return 解析后的 {@code BigDecimal} 或指定的默认值
+     * @throws IndexOutOfBoundsException 如果指定的范围超出数组的范围
+     */
+    public static BigDecimal toBigDecimal(char[] value, int start, int end, BigDecimal defaultValue) {
+        return value == null ? defaultValue : toBigDecimal(CharBuffer.wrap(value), start, end, defaultValue);
+    }
+
+    /**
+     * 将字节数组中 {@code [start, end)} 范围内的 ASCII 字符解析为 {@code int}，如果不能解析则返回指定的默认值
+     * <p>直接在字节上解析，不需要先解码为字符串，解析规则与 {@link Cast#toInteger(Object, Integer)} 一致</p>
+     *
+     * @param value 要解析的字节数组
+     * @param start 起始位置（包含）
+     * @param end 结束位置（不包含）
+     * @param defaultValue 提供的默认值
+     * @return 解析后的 {@code int} 值或指定的默认值
+     * @throws IndexOutOfBoundsException 如果指定的范围超出数组的范围
+     */
+    public static int toInteger(byte[] value, int start, int end, int defaultValue) {
+        long result = Converter.TO_NUMBER_CONVERTER.longValue(value, start, end, Long.MIN_VALUE);
+        return result < Integer.MIN_VALUE || result > Integer.MAX_VALUE ? defaultValue : (int) result;
+    }
+
+    /**
+     * 将字节数组中 {@code [start, end)} 范围内的 ASCII 字符解析为 {@code long}，如果不能解析则返回指定的默认值
+     * <p>直接在字节上解析，不需要先解码为字符串，解析规则与 {@link Cast#toLong(Object, Long)} 一致</p>
+     *
+     * @param value 要解析的字节数组
+     * @param start 起始位置（包含）
+     * @param end 结束位置（不包含）
+     * @param defaultValue 提供的默认值
+     * @return 解析后的 {@code long} 值或指定的默认值
+     * @throws IndexOutOfBoundsException 如果指定的范围超出数组的范围
+     */
+    public static long toLong(byte[] value, int start, int end, long defaultValue) {
+        return Converter.TO_NUMBER_CONVERTER.longValue(value, start, end, defaultValue);
+    }
+
+    /**
+     * 将字节数组中 {@code [start, end)} 范围内的 ASCII 字符解析为 {@code double}，如果不能解析则返回指定的默认值
+     * <p>直接在字节上解析，不需要先解码为字符串，解析规则与 {@link Cast#toDouble(Object, Double)} 一致</p>
+     *
+     * @param value 要解析的字节数组
+     * @param start 起始位置（包含）
+     * @param end 结束位置（不包含）
+     * @param defaultValue 提供的默认值
+     * @return 解析后的 {@code double} 值或指定的默认值
+     * @throws IndexOutOfBoundsException 如果指定的范围超出数组的范围
+     */
+    public static double toDouble(byte[] value, int start, int end, double defaultValue) {
+        return Converter.TO_NUMBER_CONVERTER.doubleValue(value, start, end, defaultValue);
+    }
+
+    /**
+     * 按指定的字节序将字节数组开头的 2 个字节解码为 {@code short}，与 {@link BinaryCodec#write(Number, byte[], int, ByteOrder)} 对应
+     * <p>需要从其他位置解码时使用 {@link BinaryCodec#toShort(byte[], int, ByteOrder)}</p>
+     *
+     * @param value 要解码的字节数组
+     * @param order 字节序
+     * @return 解码后的值
+     * @throws IndexOutOfBoundsException 如果字节数组的长度不足 2 个字节
+     */
+    public static short decodeShort(byte[] value, ByteOrder order) {
+        return BinaryCodec.toShort(value, 0, order);
+    }
+
+    /**
+     * 按指定的字节序将字节数组开头的 4 个字节解码为 {@code int}，与 {@link BinaryCodec#write(Number, byte[], int, ByteOrder)} 对应
+     * <p>需要从其他位置解码时使用 {@link BinaryCodec#toInt(byte[], int, ByteOrder)}</p>
+     *
+     * @param value 要解码的字节数组
+     * @param order 字节序
+     * @return 解码后的值
+     * @throws IndexOutOfBoundsException 如果字节数组的长度不足 4 个字节
+     */
+    public static int decodeInt(byte[] value, ByteOrder order) {
+        return BinaryCodec.toInt(value, 0, order);
+    }
+
+    /**
+     * 按指定的字节序将字节数组开头的 8 个字节解码为 {@code long}，与 {@link BinaryCodec#write(Number, byte[], int, ByteOrder)} 对应
+     * <p>需要从其他位置解码时使用 {@link BinaryCodec#toLong(byte[], int, ByteOrder)}</p>
+     *
+     * @param value 要解码的字节数组
+     * @param order 字节序
+     * @return 解码后的值
+     * @throws IndexOutOfBoundsException 如果字节数组的长度不足 8 个字节
+     */
+    public static long decodeLong(byte[] value, ByteOrder order) {
+        return BinaryCodec.toLong(value, 0, order);
+    }
+
+    /**
+     * 按指定的字节序将字节数组开头的 4 个字节解码为 IEEE 754 格式的 {@code float}，与 {@link BinaryCodec#write(Number, byte[], int, ByteOrder)} 对应
+     * <p>需要从其他位置解码时使用 {@link BinaryCodec#toFloat(byte[], int, ByteOrder)}</p>
+     *
+     * @param value 要解码的字节数组
+     * @param order 字节序
+     * @return 解码后的值
+     * @throws IndexOutOfBoundsException 如果字节数组的长度不足 4 个字节
+     */
+    public static float decodeFloat(byte[] value, ByteOrder order) {
+        return BinaryCodec.toFloat(value, 0, order);
+    }
+
+    /**
+     * 按指定的字节序将字节数组开头的 8 个字节解码为 IEEE 754 格式的 {@code double}，与 {@link BinaryCodec#write(Number, byte[], int, ByteOrder)} 对应
+     * <p>需要从其他位置解码时使用 {@link BinaryCodec#toDouble(byte[], int, ByteOrder)}</p>
+     *
+     * @param value 要解码的字节数组
+     * @param order 字节序
+     * @return 解码后的值
+     * @throws IndexOutOfBoundsException 如果字节数组的长度不足 8 个字节
+     */
+    public static double decodeDouble(byte[] value, ByteOrder order) {
+        return BinaryCodec.toDouble(value, 0, order);
+    }
+
+    /**
+     * 将指定的对象转换为字节数组，如果不能转换返回提供的默认值
+     *
+     * @param obj 要转换的对象
+     * @param defaultValue 无法完成转换时的的默认值
+     * @return 转换后的字节数组或指定的默认值
+     */
+    public static byte[] toBytes(Object obj, byte[] defaultValue) {
+        try {
+            byte[] result = Converter.TO_BYTES_ARRAY_CONVERTER.convert(obj);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 将指定的对象转换为字节数组，如果不能转换将会抛出异常
+     *
+     * @param obj 要转换的对象
+     * @return 转换后的字节数组或指定的默认值
+     * @throws CastException 如果不能转换将会抛出该异常
+     */
+    public static byte[] toBytes(Object obj) {
+        return Converter.TO_BYTES_ARRAY_CONVERTER.convert(obj);
+    }
+
+    /**
+     * 将指定的对象转换为字节数组，结果超过指定的大小时将会抛出异常
+     * <p>转换规则与 {@link Cast#toBytes(Object, byte[])} 一致，{@code InputStream} 及 {@code Blob} 在读取的过程中检查大小，
+     * 超出上限时立即失败，不会把失控的流全部读入内存</p>
+     *
+     * @param obj 要转换的对象
+     * @param maxSize 字节数组长度的上限
+     * @return 转换后的字节数组
+     * @throws CastException 如果不能转换、读取失败或超出上限将会抛出该异常
+     */
+    public static byte[] toBytes(Object obj, long maxSize) {
+        return Converter.TO_BYTES_ARRAY_CONVERTER.convert(obj, maxSize);
+    }
+
+    /**
+     * 将指定的对象按指定的字符集转换为字节数组，如果不能转换返回提供的默认值
+     * <p>{@code CharSequence} 及 {@code char[]} 直接按字符集编码，不需要先转换为 {@code String}，无法编码的字符替换为字符集的默认替换字节；
+     * US-ASCII、ISO-8859-1、UTF-8 直接逐个字符编码，其他字符集复用当前线程缓存的编码器。其他类型的规则与 {@link Cast#toBytes(Object, byte[])} 一致</p>
+     *
+     * @param obj 要转换的对象
+     * @param charset 字符集
+     * @param defaultValue 无法完成转换时的的默认值
+     * @return 转换后的字节数组或指定的默认值
+     */
+    public static byte[] encode(Object obj, Charset charset, byte[] defaultValue) {
+        try {
+            byte[] result = Converter.TO_BYTES_ARRAY_CONVERTER.convert(obj, charset);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 将指定的对象按指定的字符集转换为字节数组，如果不能转换将会抛出异常
+     * <p>该方法的转换规则与 {@link Cast#encode(Object, Charset, byte[])} 一致，只不过在无法转换时，将会抛出异常</p>
+     *
+     * @param obj 要转换的对象
+     * @param charset 字符集
+     * @return 转换后的字节数组
+     * @throws CastException 如果不能转换将会抛出该异常
+     */
+    public static byte[] encode(Object obj, Charset charset) {
+        return Converter.TO_BYTES_ARRAY_CONVERTER.convert(obj, charset);
+    }
+
+    /**
+     * 将字符序列按指定的字符集编码到提供的字节数组中，不会创建新的字节数组
+     *
+     * @param value 要编码的字符序列
+     * @param charset 字符集
+     * @param dest 目标字节数组
+     * @param offset 开始写入的位置
+     * @return 写入的字节数
+     * @throws IndexOutOfBoundsException 如果字节数组的剩余空间不足将会抛出该异常
+     */
+    public static int encodeTo(CharSequence value, Charset charset, byte[] dest, int offset) {
+        return StringEncoder.encode(value, charset, dest, offset);
+    }
+
+    /**
+     * 将字符序列按指定的字符集编码到提供的 {@code ByteBuffer} 中，从其当前位置开始写入，写入后位置向后移动
+     *
+     * @param value 要编码的字符序列
+     * @param charset 字符集
+     * @param dest 目标缓冲区
+     * @return 写入的字节数
+     * @throws java.nio.BufferOverflowException 如果缓冲区的剩余空间不足将会抛出该异常，此时缓冲区的位置不会改变
+     * @throws java.nio.ReadOnlyBufferException 如果缓冲区是只读的将会抛出该异常
+     */
+    public static int encodeTo(CharSequence value, Charset charset, ByteBuffer dest) {
+        return StringEncoder.encode(value, charset, dest);
+    }
+
+    /**
+     * 将指定的对象转换为 {@code ByteBuffer}，如果不能转换返回提供的默认值
+     * <p>遵循如下规则：</p>
+     * <ul>
+     *     <li>如果为 {@code byte[]} 或 {@code ByteBuffer}，返回共享数据的只读视图，不会复制数据</li>
+     *     <li>
+     *         如果为 {@code Path}、{@code File} 或 {@code FileChannel}，以只读的方式将文件映射到内存，{@code FileChannel} 从其当前位置开始映射，
+     *         不会读入堆中，文件不能超过 2GB
+     *     </li>
+     *     <li>其他类型按 {@link Cast#toBytes(Object, byte[])} 的规则转换后包装</li>
+     * </ul>
+     *
+     * @param obj 要转换的对象
+     * @param defaultValue 无法完成转换时的的默认值
+     * @return 转换后的 {@code ByteBuffer} 或指定的默认值
+     */
+    public static ByteBuffer toByteBuffer(Object obj, ByteBuffer defaultValue) {
+        try {
+            ByteBuffer result = Converter.TO_BYTE_BUFFER_CONVERTER.convert(obj);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 将指定的对象转换为 {@code ByteBuffer}，如果不能转换将会抛出异常
+     * <p>该方法的转换规则与 {@link Cast#toByteBuffer(Object, ByteBuffer)} 一致，只不过在无法转换时，将会抛出异常</p>
+     *
+     * @param obj 要转换的对象
+     * @return 转换后的 {@code ByteBuffer}
+     * @throws CastException 如果不能转换或读取数据失败将会抛出该异常
+     */
+    public static ByteBuffer toByteBuffer(Object obj) {
+        return Converter.TO_BYTE_BUFFER_CONVERTER.convert(obj);
+    }
+
+    /**
+     * 将指定的对象转换为 {@code ByteBuffer}，可以要求返回直接（堆外）缓冲区，如果不能转换将会抛出异常
+     * <p>{@code direct} 为 {@code true} 时，堆中的数据会被复制到直接缓冲区中，映射的文件本身就是直接缓冲区，
+     * {@code Blob} 按其长度直接读入直接缓冲区；其他规则与 {@link Cast#toByteBuffer(Object, ByteBuffer)} 一致</p>
+     *
+     * @param obj 要转换的对象
+     * @param direct 是否需要直接缓冲区
+     * @return 转换后的 {@code ByteBuffer}
+     * @throws CastException 如果不能转换或读取数据失败将会抛出该异常
+     */
+    public static ByteBuffer toByteBuffer(Object obj, boolean direct) {
+        return Converter.TO_BYTE_BUFFER_CONVERTER.convert(obj, direct);
+    }
+
+    /**
+     * 将指定的对象转换为 {@code ByteBuffer}，超过阈值的大对象写入临时文件后映射到内存，如果不能转换将会抛出异常
+     * <p>{@code Blob} 及 {@code InputStream} 的数据不超过阈值时读入堆中，超过阈值时写入临时文件并返回映射的只读缓冲区，
+     * 堆中最多只保留阈值大小的数据，临时文件在映射后立即删除；{@code InputStream} 读取后会被关闭。
+     * 其他规则与 {@link Cast#toByteBuffer(Object, ByteBuffer)} 一致</p>
+     *
+     * @param obj 要转换的对象
+     * @param spillThreshold 保留在堆中的最大字节数
+     * @return 转换后的 {@code ByteBuffer}
+     * @throws CastException 如果不能转换、读取数据失败或者数据超过 {@link Integer#MAX_VALUE} 个字节将会抛出该异常
+     * @throws IllegalArgumentException 阈值为负数时抛出该异常
+     */
+    public static ByteBuffer toByteBuffer(Object obj, long spillThreshold) {
+        return Converter.TO_BYTE_BUFFER_CONVERTER.convert(obj, spillThreshold);
+    }
+
+    /**
+     * 将指定的对象转换为 {@code CharSequence}，超过阈值的大对象写入临时文件后映射到内存，如果不能转换将会抛出异常
+     * <p>{@code Clob} 及 {@code Reader} 的字符不超过阈值时返回 {@code String}，超过阈值时以 UTF-16 的形式写入临时文件，
+     * 返回映射的只读 {@code CharBuffer}，堆中最多只保留阈值大小的数据，临时文件在映射后立即删除；{@code Reader} 读取后会被关闭。
+     * {@code CharSequence} 直接返回，其他规则与 {@link Cast#toStr(Object, String)} 一致</p>
+     *
+     * @param obj 要转换的对象
+     * @param spillThreshold 保留在堆中的最大字符数
+     * @return 转换后的 {@code CharSequence}
+     * @throws CastException 如果不能转换、读取数据失败或者数据超过 {@link Integer#MAX_VALUE} 个字节将会抛出该异常
+     * @throws IllegalArgumentException 阈值为负数时抛出该异常
+     */
+    public static CharSequence toCharSequence(Object obj, long spillThreshold) {
+        return Converter.TO_STRING_CONVERTER.toCharSequence(obj, spillThreshold);
+    }
+
+    /**
+     * 将指定的转换为 {@code Date} 类型，如果不能发生转换则返回指定的默认值
+     * <p>字符串按 ISO-8601 格式直接解析，根据分隔符的位置自动识别以下形式，不会逐个尝试不同的格式：</p>
+     * <ul>
+     *     <li>日期，例如 {@code 2019-06-01}</li>
+     *     <li>日期时间，例如 {@code 2019-06-01T13:45:30.123+08:00}、{@code 2019-06-01 13:45:30Z}，没有偏移量时使用系统默认时区</li>
+     *     <li>时间，例如 {@code 13:45:30}，日期为 1970-01-01</li>
+     *     <li>毫秒时间戳，例如 {@code 1559396730123}</li>
+     * </ul>
+     * <p>不符合以上形式的字符串按 {@code SimpleDateFormat} 的本地化默认格式解析。{@link Cast#toSqlDate(Object, java.sql.Date)}、
+     * {@link Cast#toSqlTimestamp(Object, Timestamp)}、{@link Cast#toSqlTime(Object, Time)} 使用相同的规则，
+     * 其中 {@code Timestamp} 会保留纳秒精度</p>
+     *
+     * @param obj 要转换的对象
+     * @param defaultValue 提供的无法转换时的默认值
+     * @return 转换后的 {@code Date} 值
+     */
+    public static Date toDate(Object obj, Date defaultValue) {
+        try {
+            Date result = Converter.TO_DATE_CONVERTER.tryConvert(obj);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 将指定的转换为 {@code Date} 类型，如果不能发生转换将会抛出异常
+     *
+     * @param obj 要转换的对象
+     * @return 转换后的 {@code Date} 值
+     * @throws CastException 不能发生转换时抛出该异常
+     */
+    public static Date toDate(Object obj) {
+        return Converter.TO_DATE_CONVERTER.convert(obj);
+    }
+
+    /**
+     * 按指定的格式将字符串转换为 {@code Date} 类型，如果不能转换（包括格式不合法）则返回指定的默认值；非字符串的规则与 {@link Cast#toDate(Object, Date)} 一致
+     * <p>格式的规则见 {@link java.time.format.DateTimeFormatter#ofPattern(String)}，与 {@code SimpleDateFormat} 的主要区别如下：</p>
+     * <ul>
+     *     <li>数字字段的宽度是严格的，例如 {@code MM} 只接受两位数字，{@code "2019-6-1"} 需要使用 {@code yyyy-M-d} 解析</li>
+     *     <li>{@code u} 表示年份，{@code Y} 表示基于周的年份，{@code n} 表示纳秒，{@code e} 表示本地化的星期</li>
+     *     <li>超出范围的字段值（例如 2 月 30 日）视为无法解析，不会顺延</li>
+     * </ul>
+     * <p>格式中没有的日期字段默认为 1970-01-01，时间字段默认为 0，没有时区或偏移量时使用默认时区；包含基于周的字段时，
+     * 不能组合出完整的日期视为无法解析。格式会在首次使用时编译并缓存。{@link Cast#toSqlDate(Object, String, java.sql.Date)}、
+     * {@link Cast#toSqlTimestamp(Object, String, Timestamp)}、{@link Cast#toSqlTime(Object, String, Time)} 使用相同的规则</p>
+     *
+     * @param obj 要转换的对象
+     * @param format 日期格式，为空时与 {@link Cast#toDate(Object, Date)} 一致
+     * @param defaultValue 提供的无法转换时的默认值
+     * @return 转换后的 {@code Date} 值
+     */
+    public static Date toDate(Object obj, String format, Date defaultValue) {
+        try {
+            Date result = Converter.TO_DATE_CONVERTER.tryConvert(obj, format);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 按指定的格式将字符串转换为 {@code Date} 类型，如果不能转换将会抛出异常，规则与 {@link Cast#toDate(Object, String, Date)} 一致
+     *
+     * @param obj 要转换的对象
+     * @param format 日期格式，为空时与 {@link Cast#toDate(Object)} 一致
+     * @return 转换后的 {@code Date} 值
+     * @throws CastException 不能发生转换或格式不合法时抛出该异常
+     */
+    public static Date toDate(Object obj, String format) {
+        return Converter.TO_DATE_CONVERTER.convert(obj, format);
+    }
+
+    /**
+     * 预先编译并缓存指定的日期格式，之后使用这些格式转换日期时只需查找缓存并解析
+     * <p>按格式转换日期时，格式会在首次使用时编译并缓存，缓存的数量有上限；通过该方法注册的格式不受上限限制，
+     * 适合在初始化配置时注册所有已知的格式</p>
+     *
+     * @param formats 日期格式，规则见 {@link java.time.format.DateTimeFormatter#ofPattern(String)}
+     * @throws CastException 格式不合法时抛出该异常
+     */
+    public static void registerDateFormat(String... formats) {
+        for (String format : formats) {
+            DateFormatCache.register(format);
+        }
+    }
+
+    /**
+     * 设置日期时间转换时使用的默认时区，没有偏移量的日期时间字符串、{@code LocalDateTime}、{@code LocalDate} 等都按该时区转换
+     * <p>设置固定的时区后，转换时不再每次查询系统默认时区；每个时区当前的偏移量会被缓存，直到下一次偏移量变化</p>
+     *
+     * @param zone 默认时区，为 {@code null} 时使用系统默认时区
+     */
+    public static void setDefaultZone(ZoneId zone) {
+        TimeContext.setDefaultZone(zone);
+    }
+
+    /**
+     * 设置日期时间转换时使用的时钟，{@code LocalTime}、{@code OffsetTime} 等只有时间的对象使用该时钟的当前日期
+     *
+     * @param clock 时钟，为 {@code null} 时使用系统时钟
+     */
+    public static void setClock(Clock clock) {
+        TimeContext.setClock(clock);
+    }
+
+    public static java.sql.Date toSqlDate(Object obj, java.sql.Date defaultValue) {
+        try {
+            java.sql.Date result = Converter.TO_DATE_CONVERTER.tryConvert(obj, java.sql.Date.class);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    public static java.sql.Date toSqlDate(Object obj, String format, java.sql.Date defaultValue) {
+        try {
+            java.sql.Date result = Converter.TO_DATE_CONVERTER.tryConvert(obj, format, java.sql.Date.class);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    public static Timestamp toSqlTimestamp(Object obj, Timestamp defaultValue) {
+        try {
+            Timestamp result = Converter.TO_DATE_CONVERTER.tryConvert(obj, Timestamp.class);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    public static Timestamp toSqlTimestamp(Object obj, String format, Timestamp defaultValue) {
+        try {
+            Timestamp result = Converter.TO_DATE_CONVERTER.tryConvert(obj, format, Timestamp.class);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    public static Time toSqlTime(Object obj, Time defaultValue) {
+        try {
+            Time result = Converter.TO_DATE_CONVERTER.tryConvert(obj, Time.class);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    public static Time toSqlTime(Object obj, String format, Time defaultValue) {
+        try {
+            Time result = Converter.TO_DATE_CONVERTER.tryConvert(obj, format, Time.class);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 将指定对象转换为毫秒时间戳，如果不能转换则返回指定的默认值
+     * <p>转换规则与 {@link Cast#toDate(Object, Date)} 一致，但直接返回基本类型，对于 {@code Number}、{@code Date}、
+     * {@code Calendar}、{@code Instant} 及 ISO-8601 字符串，转换过程不会创建任何对象</p>
+     *
+     * @param obj 要转换的对象
+     * @param defaultValue 提供的默认值
+     * @return 毫秒时间戳或指定的默认值
+     */
+    public static long toEpochMillis(Object obj, long defaultValue) {
+        try {
+            return Converter.TO_DATE_CONVERTER.epochMillis(obj, null, defaultValue);
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 将指定对象转换为纳秒时间戳，如果不能转换则返回指定的默认值，转换规则与 {@link Cast#toEpochMillis(Object, long)} 一致
+     * <p>{@code Number} 视为毫秒时间戳；{@code Timestamp}、{@code Instant} 及 ISO-8601 字符串会保留纳秒精度。
+     * {@code long} 能表示的纳秒时间戳范围约为 1677 年至 2262 年，超出该范围时返回默认值</p>
+     *
+     * @param obj 要转换的对象
+     * @param defaultValue 提供的默认值
+     * @return 纳秒时间戳或指定的默认值
+     */
+    public static long toEpochNanos(Object obj, long defaultValue) {
+        try {
+            return Converter.TO_DATE_CONVERTER.epochNanos(obj, defaultValue);
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 将指定对象转换为 {@code Instant}，如果不能转换则返回指定的默认值
+     * <p>遵循如下规则：</p>
+     * <ul>
+     *     <li>{@code Number} 视为毫秒时间戳</li>
+     *     <li>{@code CharSequence} 按 ISO-8601 格式解析，规则与 {@link Cast#toDate(Object, Date)} 一致</li>
+     *     <li>{@code Date}、{@code Calendar} 取其时间戳，{@code Timestamp} 会保留纳秒精度</li>
+     *     <li>其他 {@code TemporalAccessor}，没有偏移量的本地时间按系统默认时区转换</li>
+     * </ul>
+     * <p>转换过程不会创建 {@code Date} 等中间对象</p>
+     *
+     * @param obj 要转换的对象
+     * @param defaultValue 提供的默认值
+     * @return 转换后的 {@code Instant} 或指定的默认值
+     */
+    public static Instant toInstant(Object obj, Instant defaultValue) {
+        try {
+            Instant result = Converter.TO_TEMPORAL_CONVERTER.tryConvert(obj, Instant.class);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 将指定对象转换为 {@code Instant}，如果不能转换将抛出异常，转换规则与 {@link Cast#toInstant(Object, Instant)} 一致
+     *
+     * @param obj 要转换的对象
+     * @return 转换后的 {@code Instant}
+     * @throws CastException 不能完成转换时抛出该异常
+     */
+    public static Instant toInstant(Object obj) {
+        return Converter.TO_TEMPORAL_CONVERTER.convert(obj, Instant.class);
+    }
+
+    /**
+     * 将指定对象转换为 {@code LocalDate}，如果不能转换则返回指定的默认值，转换规则与 {@link Cast#toInstant(Object, Instant)} 类似.
+     * <p>带有偏移量的源值（例如 {@code OffsetDateTime}、带偏移量的字符串）取其本地日期，时间戳按系统默认时区转换</p>
+     *
+     * @param obj 要转换的对象
+     * @param defaultValue 提供的默认值
+     * @return 转换后的 {@code LocalDate} 或指定的默认值
+     * @see Cast#toInstant(Object, Instant)
+     */
+    public static LocalDate toLocalDate(Object obj, LocalDate defaultValue) {
+        try {
+            LocalDate result = Converter.TO_TEMPORAL_CONVERTER.tryConvert(obj, LocalDate.class);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 将指定对象转换为 {@code LocalDate}，如果不能转换将抛出异常，转换规则与 {@link Cast#toLocalDate(Object, LocalDate)} 一致
+     *
+     * @param obj 要转换的对象
+     * @return 转换后的 {@code LocalDate}
+     * @throws CastException 不能完成转换时抛出该异常
+     */
+    public static LocalDate toLocalDate(Object obj) {
+        return Converter.TO_TEMPORAL_CONVERTER.convert(obj, LocalDate.class);
+    }
+
+    /**
+     * 将指定对象转换为 {@code LocalDateTime}，如果不能转换则返回指定的默认值，转换规则与 {@link Cast#toLocalDate(Object, LocalDate)} 类似.
+     *
+     * @param obj 要转换的对象
+     * @param defaultValue 提供的默认值
+     * @return 转换后的 {@code LocalDateTime} 或指定的默认值
+     * @see Cast#toLocalDate(Object, LocalDate)
+     */
+    public static LocalDateTime toLocalDateTime(Object obj, LocalDateTime defaultValue) {
+        try {
+            LocalDateTime result = Converter.TO_TEMPORAL_CONVERTER.tryConvert(obj, LocalDateTime.class);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 将指定对象转换为 {@code LocalDateTime}，如果不能转换将抛出异常，转换规则与 {@link Cast#toLocalDate(Object, LocalDate)} 类似.
+     *
+     * @param obj 要转换的对象
+     * @return 转换后的 {@code LocalDateTime}
+     * @throws CastException 不能完成转换时抛出该异常
+     */
+    public static LocalDateTime toLocalDateTime(Object obj) {
+        return Converter.TO_TEMPORAL_CONVERTER.convert(obj, LocalDateTime.class);
+    }
+
+    /**
+     * 将指定对象转换为 {@code OffsetDateTime}，如果不能转换则返回指定的默认值，转换规则与 {@link Cast#toInstant(Object, Instant)} 类似.
+     * <p>源值带有偏移量时保留原偏移量，否则使用系统默认时区在该时刻的偏移量</p>
+     *
+     * @param obj 要转换的对象
+     * @param defaultValue 提供的默认值
+     * @return 转换后的 {@code OffsetDateTime} 或指定的默认值
+     * @see Cast#toInstant(Object, Instant)
+     */
+    public static OffsetDateTime toOffsetDateTime(Object obj, OffsetDateTime defaultValue) {
+        try {
+            OffsetDateTime result = Converter.TO_TEMPORAL_CONVERTER.tryConvert(obj, OffsetDateTime.class);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 将指定对象转换为 {@code OffsetDateTime}，如果不能转换将抛出异常，转换规则与 {@link Cast#toOffsetDateTime(Object, OffsetDateTime)} 一致
+     *
+     * @param obj 要转换的对象
+     * @return 转换后的 {@code OffsetDateTime}
+     * @throws CastException 不能完成转换时抛出该异常
+     */
+    public static OffsetDateTime toOffsetDateTime(Object obj) {
+        return Converter.TO_TEMPORAL_CONVERTER.convert(obj, OffsetDateTime.class);
+    }
+
+    /**
+     * 将指定的对象转换为枚举类型实例，根据指定的 {@code targetClass} 去转换，如果不能转换，返回指定的默认值
+     * <ul>
+     *     <li>字符串去掉前后的空白字符后，先精确匹配常量名称及 {@link EnumAlias} 指定的别名，再忽略大小写匹配，
+     *     忽略大小写后对应多个常量时不会匹配</li>
+     *     <li>整数按序数转换，超出范围时不能转换</li>
+     * </ul>
+     * <p>每个枚举类型的查找表只在首次使用时创建一次，之后的转换只是一次散列查找，无法转换时也不会产生异常</p>
+     *
+     * @param obj 要转化的对象
+     * @param targetClass 目标枚举类型
+     * @param defaultValue 提供的默认值
+     * @param <T> 枚举类型
+     * @return 转换后的指定类型的枚举值
+     */
+    public static <T extends Enum> T toEnum(Object obj, Class<T> targetClass, T defaultValue) {
+        try {
+            T result = Converter.TO_ENUM_CONVERTER.tryConvert(obj, targetClass);
+            return result == null ? defaultValue : result;
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 将指定的对象转换为枚举类型实例，如果不能转换将抛出异常，转换规则与 {@link Cast#toEnum(Object, Class, Enum)} 一致
+     *
+     * @param obj 要转化的对象
+     * @param targetClass 目标枚举类型
+     * @param <T> 枚举类型
+     * @return 转换后的指定类型的枚举值
+     * @throws CastException 不能完成转换时抛出该异常
+     */
+    public static <T extends Enum> T toEnum(Object obj, Class<T> targetClass) {
+        return Converter.TO_ENUM_CONVERTER.convert(obj, targetClass);
+    }
+
+    /**
+     * 将英文逗号分隔的字符串、数组、集合或位掩码转换为 {@code EnumSet}，如果不能转换将会抛出异常。例：{@code "READ, WRITE"} - [READ, WRITE]
+     * <ul>
+     *     <li>字符串只遍历一次，每个片段去掉前后的空白字符后直接在枚举的查找表中查找，不会创建子字符串，匹配规则与 {@link Cast#toEnum(Object, Class, Enum)} 一致；忽略空片段</li>
+     *     <li>数组及集合中的元素按 {@link Cast#toEnum(Object, Class)} 的规则转换，忽略 {@code null} 元素</li>
+     *     <li>{@code Number} 视为 {@link Cast#toEnumMask(Object, Class)} 返回的位掩码，第 n 位表示序数为 n 的常量</li>
+     * </ul>
+     *
+     * @param obj       要转换的对象
+     * @param enumClass 枚举类型
+     * @param <E>       枚举类型
+     * @return 转换后的 {@code EnumSet}，对象为 {@code null} 时返回 {@code null}
+     * @throws CastException 任何一个元素不能转换，或位掩码中包含不存在的序数时
+     */
+    public static <E extends Enum<E>> EnumSet<E> toEnumSet(Object obj, Class<E> enumClass) {
+        return Splitter.toEnumSet(obj, enumClass, null, true);
+    }
+
+    /**
+     * 将英文逗号分隔的字符串、数组、集合或位掩码转换为 {@code long} 类型的位掩码，第 n 位表示序数为 n 的常量，只支持不超过 64 个常量的枚举
+     * <p>转换规则与 {@link Cast#toEnumSet(Object, Class)} 一致，位掩码直接在遍历过程中计算，不会创建 {@code EnumSet}。
+     * 例：{@code "READ,ADMIN"}（{@code READ} 与 {@code ADMIN} 的序数分别为 0 及 2） - 0b101</p>
+     *
+     * @param obj       要转换的对象
+     * @param enumClass 枚举类型
+     * @return 转换后的位掩码，对象为 {@code null} 时返回 0
+     * @throws CastException 枚举常量超过 64 个、任何一个元素不能转换，或位掩码中包含不存在的序数时
+     */
+    public static long toEnumMask(Object obj, Class<? extends Enum<?>> enumClass) {
+        return Splitter.toEnumMask(obj, enumClass, null, true);
+    }
+
+    /**
+     * 将英文逗号分隔的字符串、数组或集合转换为 {@code int[]}，每个片段去掉前后的空白字符，如果不能转换将会抛出异常
+     * <p>规则与 {@link Cast#toIntArray(Object, CharSequence, boolean)} 一致。例：{@code "1, 2,3"} - {1, 2, 3}</p>
+     *
+     * @param obj 要转换的对象
+     * @return 转换后的数组，对象为 {@code null} 时返回 {@code null}
+     * @throws CastException 任何一个元素不能转换为 {@code int} 时
+     */
+    public static int[] toIntArray(Object obj) {
+        return Splitter.toIntArray(obj, null, true);
+    }
+
+    /**
+     * 将分隔符连接的字符串、数组或集合转换为 {@code int[]}，是 {@link Cast#join(Object, CharSequence)} 的逆操作，如果不能转换将会抛出异常
+     * <ul>
+     *     <li>字符串只遍历一次，每个片段直接在原字符串上解析，不会创建子字符串，解析规则与 {@link Cast#toInteger(Object)} 一致</li>
+     *     <li>数组及集合中的每个元素按 {@link Cast#toInteger(Object)} 的规则转换，其他对象视为只有一个元素</li>
+     *     <li>忽略空片段（包括去掉空白字符后为空的片段）及 {@code null} 元素</li>
+     * </ul>
+     *
+     * @param obj       要转换的对象
+     * @param delimiter 分隔符，为 {@code null} 时使用英文逗号
+     * @param trim      是否去掉每个片段前后的空白字符
+     * @return 转换后的数组，对象为 {@code null} 时返回 {@code null}
+     * @throws CastException            任何一个元素不能转换为 {@code int} 时
+     * @throws IllegalArgumentException 分隔符为空字符串时
+     */
+    public static int[] toIntArray(Object obj, CharSequence delimiter, boolean trim) {
+        return Splitter.toIntArray(obj, delimiter, trim);
+    }
+
+    /**
+     * 将英文逗号分隔的字符串、数组或集合转换为 {@code long[]}，规则与 {@link Cast#toIntArray(Object)} 一致
+     *
+     * @param obj 要转换的对象
+     * @return 转换后的数组，对象为 {@code null} 时返回 {@code null}
+     * @throws CastException 任何一个元素不能转换为 {@code long} 时
+     */
+    public static long[] toLongArray(Object obj) {
+        return Splitter.toLongArray(obj, null, true);
+    }
+
+    /**
+     * 将分隔符连接的字符串、数组或集合转换为 {@code long[]}，规则与 {@link Cast#toIntArray(Object, CharSequence, boolean)} 一致
+     *
+     * @param obj       要转换的对象
+     * @param delimiter 分隔符，为 {@code null} 时使用英文逗号
+     * @param trim      是否去掉每个片段前后的空白字符
+     * @return 转换后的数组，对象为 {@code null} 时返回 {@code null}
+     * @throws CastException            任何一个元素不能转换为 {@code long} 时
+     * @throws IllegalArgumentException 分隔符为空字符串时
+     */
+    public static long[] toLongArray(Object obj, CharSequence delimiter, boolean trim) {
+        return Splitter.toLongArray(obj, delimiter, trim);
+    }
+
+    /**
+     * 将英文逗号分隔的字符串、数组或集合转换为 {@code double[]}，规则与 {@link Cast#toIntArray(Object)} 一致
+     *
+     * @param obj 要转换的对象
+     * @return 转换后的数组，对象为 {@code null} 时返回 {@code null}
+     * @throws CastException 任何一个元素不能转换为 {@code double} 时
+     */
+    public static double[] toDoubleArray(Object obj) {
+        return Splitter.toDoubleArray(obj, null, true);
+    }
+
+    /**
+     * 将分隔符连接的字符串、数组或集合转换为 {@code double[]}，规则与 {@link Cast#toIntArray(Object, CharSequence, boolean)} 一致
+     *
+     * @param obj       要转换的对象
+     * @param delimiter 分隔符，为 {@code null} 时使用英文逗号
+     * @param trim      是否去掉每个片段前后的空白字符
+     * @return 转换后的数组，对象为 {@code null} 时返回 {@code null}
+     * @throws CastException            任何一个元素不能转换为 {@code double} 时
+     * @throws IllegalArgumentException 分隔符为空字符串时
+     */
+    public static double[] toDoubleArray(Object obj, CharSequence delimiter, boolean trim) {
+        return Splitter.toDoubleArray(obj, delimiter, trim);
+    }
+
+    /**
+     * 将英文逗号分隔的字符串、数组或集合转换为指定元素类型的 {@code List}，规则与 {@link Cast#toList(Object, Class, CharSequence, boolean)} 一致
+     *
+     * @param obj          要转换的对象
+     * @param elementClass 元素类型
+     * @param <T>          元素类型
+     * @return 转换后的 {@code List}，对象为 {@code null} 时返回 {@code null}
+     * @throws CastException 任何一个元素不能转换为指定类型时
+     */
+    public static <T> List<T> toList(Object obj, Class<T> elementClass) {
+        return Splitter.toList(obj, elementClass, null, true);
+    }
+
+    /**
+     * 将分隔符连接的字符串、数组或集合转换为指定元素类型的 {@code List}，如果不能转换将会抛出异常
+     * <p>支持的元素类型为 {@code String}、数字的包装类型及 {@code BigInteger}、{@code BigDecimal}、{@code Boolean}、{@code Character}
+     * 及枚举，转换规则与对应的 {@code toXxx} 方法一致；数字及布尔值直接在原字符串上解析，不会创建子字符串。
+     * 其他元素类型只接受该类型的实例。拆分规则与 {@link Cast#toIntArray(Object, CharSequence, boolean)} 一致</p>
+     *
+     * @param obj          要转换的对象
+     * @param elementClass 元素类型
+     * @param delimiter    分隔符，为 {@code null} 时使用英文逗号
+     * @param trim         是否去掉每个片段前后的空白字符
+     * @param <T>          元素类型
+     * @return 转换后的 {@code List}，对象为 {@code null} 时返回 {@code null}
+     * @throws CastException            任何一个元素不能转换为指定类型，或元素类型为 {@code null} 时
+     * @throws IllegalArgumentException 分隔符为空字符串时
+     */
+    public static <T> List<T> toList(Object obj, Class<T> elementClass, CharSequence delimiter, boolean trim) {
+        return Splitter.toList(obj, elementClass, delimiter, trim);
     }
 
     /**
@@ -7,4 +7,13 @@ abstract class ConditionConverter<R> implements Converter<R> {
 
     public abstract  <T extends R> T convert(Object obj, Class<T> targetClass);
 
+    /**
+     * 尝试将指定对象转换为目标类型，无法转换时返回 {@code null} 而不会抛出异常
+     *
+     * @param obj         要转换的对象
+     * @param targetClass 目标类型
+     * @return 转换后的值，无法转换时返回 {@code null}
+     */
+    public abstract <T extends R> T tryConvert(Object obj, Class<T> targetClass);
+
 }
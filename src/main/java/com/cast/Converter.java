@@ -8,6 +8,8 @@ interface Converter<R> {
 
     ToBytesArrayConverter TO_BYTES_ARRAY_CONVERTER = new ToBytesArrayConverter();
 
+    ToByteBufferConverter TO_BYTE_BUFFER_CONVERTER = new ToByteBufferConverter();
+
     ToCharacterConverter TO_CHAR_CONVERTER = new ToCharacterConverter();
 
     ToDateConverter TO_DATE_CONVERTER = new ToDateConverter();
@@ -18,4 +20,6 @@ interface Converter<R> {
 
     ToStringConverter TO_STRING_CONVERTER = new ToStringConverter();
 
+    ToTemporalConverter TO_TEMPORAL_CONVERTER = new ToTemporalConverter();
+
 }
@@ -0,0 +1,245 @@
+package com.cast;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 按格式字符串缓存编译后的 {@code DateTimeFormatter}，用于日期的解析与格式化，{@code DateTimeFormatter} 是线程安全的，可以在多个线程间共享
+ * <p>缓存的数量是有上限的，超出上限后新的格式不再缓存，每次都会重新编译；通过 {@link #register(String)} 预先注册的格式不受上限限制</p>
+ *
+ * @author Jon
+ */
+final class DateFormatCache {
+
+    private DateFormatCache() {
+    }
+
+    /**
+     * 缓存的格式数量上限，防止格式字符串来自外部输入时无限增长
+     */
+    static final int MAX_CACHED_FORMATS = 256;
+
+    private static final ConcurrentMap<String, CompiledFormat> FORMATTERS = new ConcurrentHashMap<>();
+
+    /**
+     * {@link #resolve(TemporalAccessor)} 能够处理的格式字母，包含其他字母（例如基于周的 {@code Y}、{@code w}、{@code e}，
+     * 一天中的毫秒数 {@code A}）的格式由 {@code DateTimeFormatter} 自行组合字段，避免这些字段被忽略后得到错误的日期
+     */
+    private static final String RESOLVED_LETTERS = "GuyDMLdHkKhamsSnVzOXxZ";
+
+    /**
+     * 取得指定格式对应的 {@code DateTimeFormatter}
+     *
+     * @param pattern 格式字符串，规则见 {@link DateTimeFormatter#ofPattern(String)}
+     * @return 编译后的 {@code DateTimeFormatter}
+     * @throws CastException 格式字符串不合法时
+     */
+    static DateTimeFormatter get(String pattern) {
+        return lookup(pattern).formatter;
+    }
+
+    private static CompiledFormat lookup(String pattern) {
+        CompiledFormat format = FORMATTERS.get(pattern);
+        if (format != null) {
+            return format;
+        }
+        format = compile(pattern);
+        if (FORMATTERS.size() < MAX_CACHED_FORMATS) {
+            CompiledFormat previous = FORMATTERS.putIfAbsent(pattern, format);
+            if (previous != null) {
+                return previous;
+            }
+        }
+        return format;
+    }
+
+    /**
+     * 预先编译并缓存指定的格式
+     *
+     * @param pattern 格式字符串
+     * @throws CastException 格式字符串不合法时
+     */
+    static void register(String pattern) {
+        FORMATTERS.putIfAbsent(pattern, compile(pattern));
+    }
+
+    /**
+     * 编译格式字符串，格式不合法时与其他转换失败一样抛出 {@link CastException}
+     */
+    private static CompiledFormat compile(String pattern) {
+        try {
+            return new CompiledFormat(DateTimeFormatter.ofPattern(pattern), isResolvable(pattern));
+        } catch (IllegalArgumentException e) {
+            throw new CastException("invalid date format: " + pattern, e);
+        }
+    }
+
+    /**
+     * 按指定的格式将字符串解析为毫秒时间戳，整个过程不会抛出异常
+     * <p>与 {@code SimpleDateFormat} 一致，格式中没有的日期字段默认为 1970-01-01，时间字段默认为 0，
+     * 没有时区或偏移量时使用 {@link TimeContext#zone()} 对应的时区；字符串末尾多余的字符会被忽略。与 {@code SimpleDateFormat} 不同的是，
+     * 超出范围的字段值（例如 2 月 30 日）会被视为无法解析；包含基于周的字段等时，由 {@code DateTimeFormatter} 组合字段，
+     * 不能组合出日期（例如 {@code YYYY-MM-dd}）时同样视为无法解析</p>
+     *
+     * @param pattern 格式字符串
+     * @param value   要解析的字符串
+     * @return 毫秒时间戳，无法解析时返回 {@link Long#MIN_VALUE}
+     * @throws CastException 格式字符串不合法时
+     */
+    static long parse(String pattern, CharSequence value) {
+        CompiledFormat format = lookup(pattern);
+        if (!format.resolvable) {
+            return parseResolved(format.formatter, value);
+        }
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor parsed = format.formatter.parseUnresolved(value, position);
+        if (parsed == null || position.getErrorIndex() >= 0) {
+            return Long.MIN_VALUE;
+        }
+        return resolve(parsed);
+    }
+
+    /**
+     * 判断格式中的字段是否都能由 {@link #resolve(TemporalAccessor)} 处理，引号中的文本不是字段
+     */
+    private static boolean isResolvable(String pattern) {
+        boolean quoted = false;
+        for (int i = 0, len = pattern.length(); i < len; i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z') && RESOLVED_LETTERS.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 由 {@code DateTimeFormatter} 自行组合字段，用于包含基于周的字段等 {@link #resolve(TemporalAccessor)} 不处理的字段的格式，
+     * 不能组合出日期时视为无法解析，不会使用 1970-01-01 作为默认日期
+     *
+     * @return 毫秒时间戳，无法解析时返回 {@link Long#MIN_VALUE}
+     */
+    private static long parseResolved(DateTimeFormatter formatter, CharSequence value) {
+        try {
+            TemporalAccessor parsed = formatter.parse(value, new ParsePosition(0));
+            LocalDate date = parsed.query(TemporalQueries.localDate());
+            if (date == null) {
+                return Long.MIN_VALUE;
+            }
+            LocalTime time = parsed.query(TemporalQueries.localTime());
+            long localSecond = date.toEpochDay() * 86400 + (time == null ? 0 : time.toSecondOfDay());
+            long nano = time == null ? 0 : time.getNano();
+            ZoneId zone = parsed.query(TemporalQueries.zone());
+            long offset = TimeContext.offsetOfLocal(localSecond, zone == null ? TimeContext.zone() : zone);
+            return (localSecond - offset) * 1000 + nano / 1000_000;
+        } catch (DateTimeException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * 将未解析的字段组合为毫秒时间戳，先检查字段的范围，不会因为字段值不合法而抛出异常
+     *
+     * @return 毫秒时间戳，字段值不合法时返回 {@link Long#MIN_VALUE}
+     */
+    private static long resolve(TemporalAccessor parsed) {
+        long year;
+        if (parsed.isSupported(ChronoField.YEAR)) {
+            year = parsed.getLong(ChronoField.YEAR);
+        } else if (parsed.isSupported(ChronoField.YEAR_OF_ERA)) {
+            year = parsed.getLong(ChronoField.YEAR_OF_ERA);
+            if (field(parsed, ChronoField.ERA, 1) == 0) {
+                year = 1 - year;
+            }
+        } else {
+            year = 1970;
+        }
+        if (!ChronoField.YEAR.range().isValidValue(year)) {
+            return Long.MIN_VALUE;
+        }
+        boolean leapYear = IsoChronology.INSTANCE.isLeapYear(year);
+        LocalDate date;
+        if (parsed.isSupported(ChronoField.DAY_OF_YEAR) && !parsed.isSupported(ChronoField.MONTH_OF_YEAR)) {
+            long dayOfYear = parsed.getLong(ChronoField.DAY_OF_YEAR);
+            if (dayOfYear < 1 || dayOfYear > (leapYear ? 366 : 365)) {
+                return Long.MIN_VALUE;
+            }
+            date = LocalDate.ofYearDay((int) year, (int) dayOfYear);
+        } else {
+            long month = field(parsed, ChronoField.MONTH_OF_YEAR, 1);
+            long day = field(parsed, ChronoField.DAY_OF_MONTH, 1);
+            if (month < 1 || month > 12 || day < 1 || day > Month.of((int) month).length(leapYear)) {
+                return Long.MIN_VALUE;
+            }
+            date = LocalDate.of((int) year, (int) month, (int) day);
+        }
+
+        long hour;
+        if (parsed.isSupported(ChronoField.HOUR_OF_DAY)) {
+            hour = parsed.getLong(ChronoField.HOUR_OF_DAY);
+        } else if (parsed.isSupported(ChronoField.CLOCK_HOUR_OF_DAY)) {
+            hour = parsed.getLong(ChronoField.CLOCK_HOUR_OF_DAY) % 24;
+        } else {
+            hour = parsed.isSupported(ChronoField.HOUR_OF_AMPM)
+                ? parsed.getLong(ChronoField.HOUR_OF_AMPM)
+                : field(parsed, ChronoField.CLOCK_HOUR_OF_AMPM, 0) % 12;
+            hour += field(parsed, ChronoField.AMPM_OF_DAY, 0) * 12;
+        }
+        long minute = field(parsed, ChronoField.MINUTE_OF_HOUR, 0);
+        long second = field(parsed, ChronoField.SECOND_OF_MINUTE, 0);
+        long nano;
+        if (parsed.isSupported(ChronoField.NANO_OF_SECOND)) {
+            nano = parsed.getLong(ChronoField.NANO_OF_SECOND);
+        } else if (parsed.isSupported(ChronoField.MICRO_OF_SECOND)) {
+            nano = parsed.getLong(ChronoField.MICRO_OF_SECOND) * 1000;
+        } else {
+            nano = field(parsed, ChronoField.MILLI_OF_SECOND, 0) * 1000_000;
+        }
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59
+            || nano < 0 || nano > 999_999_999) {
+            return Long.MIN_VALUE;
+        }
+        long localSecond = date.toEpochDay() * 86400 + hour * 3600 + minute * 60 + second;
+
+        long offset;
+        if (parsed.isSupported(ChronoField.OFFSET_SECONDS)) {
+            offset = parsed.getLong(ChronoField.OFFSET_SECONDS);
+        } else {
+            ZoneId zone = parsed.query(TemporalQueries.zoneId());
+            offset = TimeContext.offsetOfLocal(localSecond, zone == null ? TimeContext.zone() : zone);
+        }
+        return (localSecond - offset) * 1000 + nano / 1000_000;
+    }
+
+    private static long field(TemporalAccessor parsed, ChronoField field, long defaultValue) {
+        return parsed.isSupported(field) ? parsed.getLong(field) : defaultValue;
+    }
+
+    /**
+     * 编译后的格式，同时记录格式中的字段是否都能由 {@link #resolve(TemporalAccessor)} 处理，解析时不需要重新检查格式字符串
+     */
+    private static final class CompiledFormat {
+
+        final DateTimeFormatter formatter;
+        final boolean resolvable;
+
+        CompiledFormat(DateTimeFormatter formatter, boolean resolvable) {
+            this.formatter = formatter;
+            this.resolvable = resolvable;
+        }
+    }
+
+}
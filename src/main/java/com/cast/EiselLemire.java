@@ -0,0 +1,166 @@
+package com.cast;
+
+import java.math.BigInteger;
+
+/**
+ * 基于 Eisel-Lemire 算法的十进制到二进制浮点数转换
+ * <p>将 {@code w * 10^q} 与 128 位精度的 5 的幂相乘，在绝大多数情况下无需任意精度运算即可得到正确舍入的结果；
+ * 对于无法确定舍入方向的少数情况返回 {@code NaN}，由调用方回退到 JDK 的完整解析。</p>
+ *
+ * @author Jon
+ * @see <a href="https://arxiv.org/abs/2101.11408">Number Parsing at a Gigabyte per Second</a>
+ */
+final class EiselLemire {
+
+    private EiselLemire() {
+    }
+
+    private static final int SMALLEST_POWER_OF_FIVE = -342;
+    private static final int LARGEST_POWER_OF_FIVE = 308;
+
+    /**
+     * 5 的幂（{@code 5^-342} 至 {@code 5^308}）的 128 位近似值，最高位为 1，按高 64 位、低 64 位依次存放
+     */
+    private static final long[] POWERS_OF_FIVE = new long[2 * (LARGEST_POWER_OF_FIVE - SMALLEST_POWER_OF_FIVE + 1)];
+
+    static {
+        BigInteger five = BigInteger.valueOf(5);
+        int index = 0;
+        for (int q = SMALLEST_POWER_OF_FIVE; q <= LARGEST_POWER_OF_FIVE; q++) {
+            BigInteger value;
+            if (q < 0) {
+                // 取 2^b / 5^-q 的上取整，保证近似值不小于真实值
+                BigInteger power = five.pow(-q);
+                int z = power.bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                value = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+            } else {
+                value = five.pow(q);
+            }
+            int bitLength = value.bitLength();
+            value = bitLength < 128 ? value.shiftLeft(128 - bitLength) : value.shiftRight(bitLength - 128);
+            POWERS_OF_FIVE[index++] = value.shiftRight(64).longValue();
+            POWERS_OF_FIVE[index++] = value.longValue();
+        }
+    }
+
+    /**
+     * 计算 {@code w * 10^q} 最接近的浮点数
+     *
+     * @param negative  是否为负数
+     * @param w         十进制有效数字，按无符号数处理
+     * @param q         十进制指数
+     * @param truncated 有效数字是否被截断（原始数字超过 19 位）
+     * @param single    是否计算单精度浮点数
+     * @return 计算结果（单精度结果会转换为 {@code double}），无法确定正确舍入的结果时返回 {@code NaN}
+     */
+    static double toDouble(boolean negative, long w, int q, boolean truncated, boolean single) {
+        long bits = computeBits(w, q, single);
+        if (truncated && bits >= 0 && bits != computeBits(w + 1, q, single)) {
+            // 真实值介于 w 与 w + 1 之间，两者舍入结果不同时无法确定
+            bits = -1;
+        }
+        if (bits < 0) {
+            return Double.NaN;
+        }
+        if (single) {
+            float result = Float.intBitsToFloat((int) bits);
+            return negative ? -result : result;
+        }
+        double result = Double.longBitsToDouble(bits);
+        return negative ? -result : result;
+    }
+
+    /**
+     * 计算 {@code w * 10^q} 对应的浮点数的位表示（不含符号位）
+     *
+     * @return 位表示，无法确定正确舍入的结果时返回 -1
+     */
+    private static long computeBits(long w, int q, boolean single) {
+        int mantissaBits = single ? 23 : 52;
+        int minimumExponent = single ? -127 : -1023;
+        int infinitePower = single ? 0xFF : 0x7FF;
+        if (w == 0 || q < (single ? -64 : SMALLEST_POWER_OF_FIVE)) {
+            return 0;
+        }
+        if (q > (single ? 38 : LARGEST_POWER_OF_FIVE)) {
+            return (long) infinitePower << mantissaBits;
+        }
+        int leadingZeros = Long.numberOfLeadingZeros(w);
+        w <<= leadingZeros;
+
+        int index = 2 * (q - SMALLEST_POWER_OF_FIVE);
+        long high = multiplyHigh(w, POWERS_OF_FIVE[index]);
+        long low = w * POWERS_OF_FIVE[index];
+        long precisionMask = -1L >>> (mantissaBits + 3);
+        if ((high & precisionMask) == precisionMask) {
+            // 高位不足以确定结果时，再乘以 5 的幂的低 64 位补充精度
+            long secondHigh = multiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+        }
+        if (low == -1L && (q < -27 || q > 55)) {
+            return -1;
+        }
+
+        int upperBit = (int) (high >>> 63);
+        int shift = upperBit + 64 - mantissaBits - 3;
+        long mantissa = high >>> shift;
+        int power2 = power(q) + upperBit - leadingZeros - minimumExponent;
+        if (power2 <= 0) {
+            // 非规格化数
+            if (-power2 + 1 >= 64) {
+                return 0;
+            }
+            mantissa >>>= -power2 + 1;
+            mantissa += mantissa & 1;
+            mantissa >>>= 1;
+            power2 = mantissa < 1L << mantissaBits ? 0 : 1;
+            return mantissa & ~(1L << mantissaBits) | (long) power2 << mantissaBits;
+        }
+        if (Long.compareUnsigned(low, 1) <= 0
+            && q >= (single ? -17 : -4) && q <= (single ? 10 : 23)
+            && (mantissa & 3) == 1
+            && mantissa << shift == high) {
+            // 恰好位于两个浮点数中间，按偶数舍入
+            mantissa &= ~1L;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= 2L << mantissaBits) {
+            mantissa = 1L << mantissaBits;
+            power2++;
+        }
+        mantissa &= ~(1L << mantissaBits);
+        if (power2 >= infinitePower) {
+            return (long) infinitePower << mantissaBits;
+        }
+        return mantissa | (long) power2 << mantissaBits;
+    }
+
+    /**
+     * 计算 {@code floor(q * log2(10)) + 63}
+     */
+    private static int power(int q) {
+        return (((152170 + 65536) * q) >> 16) + 63;
+    }
+
+    /**
+     * 计算两个无符号 64 位整数乘积的高 64 位
+     */
+    static long multiplyHigh(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+        long p00 = x0 * y0;
+        long p01 = x0 * y1;
+        long p10 = x1 * y0;
+        long p11 = x1 * y1;
+        long middle = (p00 >>> 32) + (p10 & 0xFFFFFFFFL) + p01;
+        return p11 + (p10 >>> 32) + (middle >>> 32);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.cast;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 为枚举常量指定别名，将字符串转换为枚举时，别名与常量名一样可以匹配，同样支持忽略大小写的匹配
+ * <p>别名与其他常量的名称相同时，以常量名称为准。例：</p>
+ * <pre>
+ * public enum Status {
+ *     &#64;EnumAlias({"A", "enabled"})
+ *     ACTIVE,
+ *     &#64;EnumAlias({"I", "disabled"})
+ *     INACTIVE
+ * }
+ *
+ * Cast.toEnum("A", Status.class)        // ACTIVE
+ * Cast.toEnum("Disabled", Status.class) // INACTIVE
+ * </pre>
+ *
+ * @author Jon
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface EnumAlias {
+
+    /**
+     * 枚举常量的别名
+     */
+    String[] value();
+
+}
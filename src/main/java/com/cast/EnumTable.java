@@ -0,0 +1,186 @@
+package com.cast;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 枚举类型的查找表，每个枚举类型只在首次使用时通过 {@code ClassValue} 创建一次
+ * <ul>
+ *     <li>常量名称及 {@link EnumAlias} 指定的别名保存在开放寻址的散列表中，直接在 {@code CharSequence} 的指定范围上计算散列值并比较，
+ *     不需要创建子字符串，也不会抛出异常</li>
+ *     <li>精确匹配失败后再忽略大小写匹配，忽略大小写后对应多个常量的名称不会匹配</li>
+ *     <li>序数直接通过下标取得</li>
+ * </ul>
+ *
+ * @author Jon
+ */
+final class EnumTable {
+
+    private static final ClassValue<EnumTable> TABLES = new ClassValue<EnumTable>() {
+        @Override
+        protected EnumTable computeValue(Class<?> type) {
+            return new EnumTable(type);
+        }
+    };
+
+    private final Enum<?>[] constants;
+
+    private final String[] exactKeys;
+    private final Enum<?>[] exactValues;
+
+    /**
+     * 忽略大小写的键，统一转换为小写；对应多个常量时值为 {@code null}
+     */
+    private final String[] foldedKeys;
+    private final Enum<?>[] foldedValues;
+
+    private final int mask;
+
+    private EnumTable(Class<?> enumClass) {
+        Object[] values = enumClass.getEnumConstants();
+        constants = new Enum<?>[values == null ? 0 : values.length];
+        List<String> names = new ArrayList<>();
+        List<Enum<?>> targets = new ArrayList<>();
+        for (int i = 0; i < constants.length; i++) {
+            constants[i] = (Enum<?>) values[i];
+            names.add(constants[i].name());
+            targets.add(constants[i]);
+        }
+        // 常量名称先于别名加入，名称相同时以常量名称为准
+        for (Enum<?> constant : constants) {
+            for (String alias : aliasesOf(constant)) {
+                names.add(alias);
+                targets.add(constant);
+            }
+        }
+        int capacity = Integer.highestOneBit(Math.max(names.size(), 1) * 4 - 1);
+        mask = capacity - 1;
+        exactKeys = new String[capacity];
+        exactValues = new Enum<?>[capacity];
+        foldedKeys = new String[capacity];
+        foldedValues = new Enum<?>[capacity];
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            Enum<?> target = targets.get(i);
+            int index = slot(exactKeys, name, 0, name.length(), false);
+            if (exactKeys[index] == null) {
+                exactKeys[index] = name;
+                exactValues[index] = target;
+            }
+            String folded = fold(name);
+            index = slot(foldedKeys, folded, 0, folded.length(), true);
+            if (foldedKeys[index] == null) {
+                foldedKeys[index] = folded;
+                foldedValues[index] = target;
+            } else if (foldedValues[index] != target) {
+                foldedValues[index] = null;
+            }
+        }
+    }
+
+    /**
+     * 取得指定枚举类型的查找表，非枚举类型返回空的查找表
+     */
+    static EnumTable of(Class<?> enumClass) {
+        return TABLES.get(enumClass);
+    }
+
+    /**
+     * 查找字符串中 {@code [start, end)} 范围内的字符对应的常量，先精确匹配名称及别名，再忽略大小写匹配
+     *
+     * @return 对应的常量，没有找到时返回 {@code null}
+     */
+    Enum<?> find(CharSequence value, int start, int end) {
+        if (constants.length == 0 || start >= end) {
+            return null;
+        }
+        int index = slot(exactKeys, value, start, end, false);
+        if (exactKeys[index] != null) {
+            return exactValues[index];
+        }
+        index = slot(foldedKeys, value, start, end, true);
+        return foldedKeys[index] == null ? null : foldedValues[index];
+    }
+
+    /**
+     * 取得指定序数的常量
+     *
+     * @return 对应的常量，序数不是整数或超出范围时返回 {@code null}
+     */
+    Enum<?> ordinal(Number value) {
+        if (!Utils.isLongValueExact(value)) {
+            return null;
+        }
+        long ordinal = value.longValue();
+        return ordinal < 0 || ordinal >= constants.length ? null : constants[(int) ordinal];
+    }
+
+    /**
+     * 常量的个数
+     */
+    int size() {
+        return constants.length;
+    }
+
+    /**
+     * 取得指定序数的常量，调用者需要保证序数在范围内
+     */
+    Enum<?> get(int ordinal) {
+        return constants[ordinal];
+    }
+
+    /**
+     * 查找键所在的位置或应该插入的空位置
+     *
+     * @param fold 是否忽略大小写，此时表中的键已经转换为小写
+     */
+    private int slot(String[] keys, CharSequence value, int start, int end, boolean fold) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + (fold ? fold(value.charAt(i)) : value.charAt(i));
+        }
+        int index = (hash ^ hash >>> 16) & mask;
+        while (keys[index] != null && !matches(keys[index], value, start, end, fold)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private static boolean matches(String key, CharSequence value, int start, int end, boolean fold) {
+        if (key.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = value.charAt(start + i);
+            if (key.charAt(i) != (fold ? fold(c) : c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 与 {@link String#equalsIgnoreCase(String)} 相同，先转换为大写再转换为小写，以兼容大小写对应关系不唯一的字符
+     */
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static String fold(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static String[] aliasesOf(Enum<?> constant) {
+        try {
+            EnumAlias alias = constant.getDeclaringClass().getField(constant.name()).getAnnotation(EnumAlias.class);
+            return alias == null ? new String[0] : alias.value();
+        } catch (NoSuchFieldException | SecurityException e) {
+            return new String[0];
+        }
+    }
+
+}
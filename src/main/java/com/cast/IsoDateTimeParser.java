@@ -0,0 +1,332 @@
+package com.cast;
+
+import java.time.ZoneId;
+
+/**
+ * ISO-8601 / RFC-3339 日期时间字符串的解析器，直接在 {@code CharSequence} 上按位置解析，不会抛出异常
+ * <p>根据固定位置上的分隔符判断字符串的形式，不需要逐个尝试不同的格式，支持以下形式：</p>
+ * <ul>
+ *     <li>日期：{@code 2019-06-01}</li>
+ *     <li>日期时间：{@code 2019-06-01T13:45}、{@code 2019-06-01 13:45:30}、{@code 2019-06-01T13:45:30.123456789}，
+ *     日期与时间之间可以使用 {@code T} 或空格分隔</li>
+ *     <li>时间：{@code 13:45:30}，日期默认为 1970-01-01</li>
+ *     <li>偏移量：{@code Z}、{@code +08:00}、{@code +0800}、{@code +08}，没有偏移量时使用指定的时区</li>
+ *     <li>毫秒时间戳：{@code 1559396730123}、{@code -1000}</li>
+ * </ul>
+ * <p>解析器包含可变的解析结果，不是线程安全的，通过 {@link #get()} 取得当前线程复用的实例；
+ * 解析器会记住上一次解析的日期时间精确到分钟的前缀，连续解析前缀相同的字符串时不会重复计算日期</p>
+ *
+ * @author Jon
+ */
+final class IsoDateTimeParser {
+
+    private static final ThreadLocal<IsoDateTimeParser> PARSERS = ThreadLocal.withInitial(IsoDateTimeParser::new);
+
+    /**
+     * 解析结果的秒数部分（相对于 1970-01-01T00:00:00Z）
+     */
+    private long epochSecond;
+
+    /**
+     * 解析结果的纳秒部分
+     */
+    private int nano;
+
+    /**
+     * 解析结果使用的偏移秒数，毫秒时间戳没有本地时间，为 {@link Integer#MIN_VALUE}
+     */
+    private int offset;
+
+    /**
+     * 上一次解析的日期时间中精确到分钟的前缀（{@code yyyy-MM-ddTHH:mm}）
+     * <p>日志、监控数据中连续的时间戳通常只有秒及以下的部分不同，前缀相同时直接使用上一次计算的结果，
+     * 只需要比较前缀并解析剩余的数字</p>
+     */
+    private final char[] prefix = new char[PREFIX_LENGTH];
+
+    /**
+     * {@link #prefix} 是否有效
+     */
+    private boolean prefixCached;
+
+    /**
+     * {@link #prefix} 对应的本地时间的秒数（以 UTC 计算）
+     */
+    private long prefixSecond;
+
+    private static final int PREFIX_LENGTH = 16;
+
+    private IsoDateTimeParser() {
+    }
+
+    /**
+     * 取得当前线程复用的解析器
+     */
+    static IsoDateTimeParser get() {
+        return PARSERS.get();
+    }
+
+    /**
+     * 解析字符串中 {@code [start, end)} 范围内的字符，首尾的空白字符会被忽略
+     *
+     * @param value 要解析的字符串
+     * @param start 起始位置（包含）
+     * @param end   结束位置（不包含）
+     * @param zone  字符串中没有偏移量时使用的时区，为 {@code null} 时使用 {@link TimeContext#zone()}，只在需要时才会取得
+     * @return 解析成功返回 {@code true}，结果通过 {@link #epochSecond()} 及 {@link #nano()} 取得
+     */
+    boolean parse(CharSequence value, int start, int end, ZoneId zone) {
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int length = end - start;
+        if (length >= 10 && value.charAt(start + 4) == '-') {
+            return parseDateTime(value, start, end, zone);
+        }
+        if (length >= 5 && value.charAt(start + 2) == ':') {
+            long localSecond = parseMinute(value, start, end, 0);
+            return localSecond != Long.MIN_VALUE && parseSecond(value, start + 5, end, localSecond, zone);
+        }
+        return parseEpochMillis(value, start, end);
+    }
+
+    long epochSecond() {
+        return epochSecond;
+    }
+
+    int nano() {
+        return nano;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    /**
+     * 解析结果对应的毫秒时间戳
+     */
+    long toEpochMilli() {
+        return epochSecond * 1000 + nano / 1000_000;
+    }
+
+    private static ZoneId zoneOrDefault(ZoneId zone) {
+        return zone == null ? TimeContext.zone() : zone;
+    }
+
+    private boolean parseDateTime(CharSequence value, int start, int end, ZoneId zone) {
+        if (end - start >= PREFIX_LENGTH && matchPrefix(value, start)) {
+            return parseSecond(value, start + PREFIX_LENGTH, end, prefixSecond, zone);
+        }
+        int year = digits(value, start, 4);
+        int month = digits(value, start + 5, 2);
+        int day = digits(value, start + 8, 2);
+        if (year < 0 || value.charAt(start + 7) != '-' || month < 1 || month > 12 || day < 1
+            || day > lengthOfMonth(year, month)) {
+            return false;
+        }
+        long epochDay = epochDay(year, month, day);
+        if (end == start + 10) {
+            return resolve(epochDay * 86400, 0, TimeContext.offsetOfLocal(epochDay * 86400, zoneOrDefault(zone)));
+        }
+        char separator = value.charAt(start + 10);
+        if (separator != 'T' && separator != 't' && separator != ' ') {
+            return false;
+        }
+        long localSecond = parseMinute(value, start + 11, end, epochDay);
+        if (localSecond == Long.MIN_VALUE) {
+            return false;
+        }
+        for (int i = 0; i < PREFIX_LENGTH; i++) {
+            prefix[i] = value.charAt(start + i);
+        }
+        prefixSecond = localSecond;
+        prefixCached = true;
+        return parseSecond(value, start + PREFIX_LENGTH, end, localSecond, zone);
+    }
+
+    /**
+     * 判断 {@code start} 开始的字符是否与上一次解析的前缀相同，分钟变化最频繁，从后向前比较
+     */
+    private boolean matchPrefix(CharSequence value, int start) {
+        if (!prefixCached) {
+            return false;
+        }
+        for (int i = PREFIX_LENGTH - 1; i >= 0; i--) {
+            if (value.charAt(start + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 解析 {@code HH:mm} 形式的时间
+     *
+     * @return 本地时间的秒数（以 UTC 计算），格式不正确时返回 {@link Long#MIN_VALUE}
+     */
+    private static long parseMinute(CharSequence value, int start, int end, long epochDay) {
+        if (end - start < 5 || value.charAt(start + 2) != ':') {
+            return Long.MIN_VALUE;
+        }
+        int hour = digits(value, start, 2);
+        int minute = digits(value, start + 3, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return Long.MIN_VALUE;
+        }
+        return epochDay * 86400 + hour * 3600 + minute * 60;
+    }
+
+    /**
+     * 解析分钟之后 {@code [:ss[.SSSSSSSSS]][offset]} 形式的部分
+     *
+     * @param localSecond 精确到分钟的本地时间的秒数（以 UTC 计算）
+     */
+    private boolean parseSecond(CharSequence value, int index, int end, long localSecond, ZoneId zone) {
+        int second = 0;
+        int nanoOfSecond = 0;
+        if (index < end && value.charAt(index) == ':') {
+            second = end - index < 3 ? -1 : digits(value, index + 1, 2);
+            if (second < 0 || second > 59) {
+                return false;
+            }
+            index += 3;
+            if (index < end && (value.charAt(index) == '.' || value.charAt(index) == ',')) {
+                int fractionStart = ++index;
+                int scale = 100_000_000;
+                while (index < end) {
+                    int digit = value.charAt(index) - '0';
+                    if (digit < 0 || digit > 9) {
+                        break;
+                    }
+                    // 超过纳秒精度的部分直接舍去
+                    nanoOfSecond += digit * scale;
+                    scale /= 10;
+                    index++;
+                }
+                if (index == fractionStart) {
+                    return false;
+                }
+            }
+        }
+        localSecond += second;
+        if (index == end) {
+            return resolve(localSecond, nanoOfSecond, TimeContext.offsetOfLocal(localSecond, zoneOrDefault(zone)));
+        }
+        int offsetSeconds = parseOffset(value, index, end);
+        return offsetSeconds != Integer.MIN_VALUE && resolve(localSecond, nanoOfSecond, offsetSeconds);
+    }
+
+    /**
+     * 解析 {@code Z}、{@code ±hh}、{@code ±hhmm}、{@code ±hh:mm} 形式的偏移量
+     *
+     * @return 偏移秒数，格式不正确时返回 {@link Integer#MIN_VALUE}
+     */
+    private static int parseOffset(CharSequence value, int start, int end) {
+        char sign = value.charAt(start);
+        if (sign == 'Z' || sign == 'z') {
+            return start + 1 == end ? 0 : Integer.MIN_VALUE;
+        }
+        if (sign != '+' && sign != '-') {
+            return Integer.MIN_VALUE;
+        }
+        int length = end - start - 1;
+        int hours = length >= 2 ? digits(value, start + 1, 2) : -1;
+        int minutes;
+        if (length == 2) {
+            minutes = 0;
+        } else if (length == 4) {
+            minutes = digits(value, start + 3, 2);
+        } else if (length == 5 && value.charAt(start + 3) == ':') {
+            minutes = digits(value, start + 4, 2);
+        } else {
+            return Integer.MIN_VALUE;
+        }
+        if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59) {
+            return Integer.MIN_VALUE;
+        }
+        int offset = hours * 3600 + minutes * 60;
+        return sign == '-' ? -offset : offset;
+    }
+
+    private boolean parseEpochMillis(CharSequence value, int start, int end) {
+        int index = start < end && value.charAt(start) == '-' ? start + 1 : start;
+        if (index == end || end - index > 19) {
+            return false;
+        }
+        for (int i = index; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        long millis = NumberParser.parseLong(value, start, end, Long.MIN_VALUE);
+        if (millis == Long.MIN_VALUE && NumberParser.parseLong(value, start, end, Long.MAX_VALUE) == Long.MAX_VALUE) {
+            return false;
+        }
+        epochSecond = Math.floorDiv(millis, 1000L);
+        nano = (int) Math.floorMod(millis, 1000L) * 1000_000;
+        offset = Integer.MIN_VALUE;
+        return true;
+    }
+
+    private boolean resolve(long localSecond, int nanoOfSecond, int offsetSeconds) {
+        epochSecond = localSecond - offsetSeconds;
+        nano = nanoOfSecond;
+        offset = offsetSeconds;
+        return true;
+    }
+
+    /**
+     * 解析固定位数的十进制数字
+     *
+     * @return 解析后的值，包含非数字字符时返回 -1
+     */
+    private static int digits(CharSequence value, int start, int count) {
+        int result = 0;
+        for (int i = start, end = start + count; i < end; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2) {
+            return isLeapYear(year) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * 计算公历日期相对于 1970-01-01 的天数，算法与 {@link java.time.LocalDate#toEpochDay()} 一致
+     */
+    static long epochDay(int year, int month, int day) {
+        long y = year;
+        long total = 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - 719528;
+    }
+
+}
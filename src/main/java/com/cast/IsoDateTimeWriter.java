@@ -0,0 +1,131 @@
+package com.cast;
+
+/**
+ * 将日期时间以 ISO-8601 的形式直接写入 {@code StringBuilder}，与 {@link IsoDateTimeParser} 对应
+ * <p>直接由秒数、纳秒数及偏移量计算各个字段并逐个写入字符，不会创建 {@code Calendar}、{@code LocalDateTime} 等中间对象，
+ * 输出的形式与 {@code java.time} 中对应类型的 {@code toString()} 一致，只是秒数总是输出：</p>
+ * <ul>
+ *     <li>日期：{@code 2019-06-01}</li>
+ *     <li>时间：{@code 13:45:30}、{@code 13:45:30.123}，小数部分按 3、6、9 位输出</li>
+ *     <li>日期时间：{@code 2019-06-01T13:45:30.123+08:00}，偏移量为 0 时输出 {@code Z}</li>
+ * </ul>
+ *
+ * @author Jon
+ */
+final class IsoDateTimeWriter {
+
+    private IsoDateTimeWriter() {
+    }
+
+    /**
+     * 写入带偏移量的日期时间
+     *
+     * @param epochSecond 相对于 1970-01-01T00:00:00Z 的秒数
+     * @param nano        纳秒部分
+     * @param offset      偏移秒数
+     */
+    static void appendDateTime(StringBuilder builder, long epochSecond, int nano, int offset) {
+        long localSecond = epochSecond + offset;
+        appendDate(builder, Math.floorDiv(localSecond, 86400L));
+        builder.append('T');
+        appendTime(builder, (int) Math.floorMod(localSecond, 86400L), nano);
+        appendOffset(builder, offset);
+    }
+
+    /**
+     * 写入 {@code yyyy-MM-dd} 形式的日期，超过 4 位的年份前加 {@code +}，算法与 {@link java.time.LocalDate#ofEpochDay(long)} 一致
+     *
+     * @param epochDay 相对于 1970-01-01 的天数
+     */
+    static void appendDate(StringBuilder builder, long epochDay) {
+        long zeroDay = epochDay + 719528 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / 146097 - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * 146097;
+        }
+        long year = (400 * zeroDay + 591) / 146097;
+        long dayOfYear = zeroDay - (365 * year + year / 4 - year / 100 + year / 400);
+        if (dayOfYear < 0) {
+            year--;
+            dayOfYear = zeroDay - (365 * year + year / 4 - year / 100 + year / 400);
+        }
+        year += adjust;
+        int marchMonth = ((int) dayOfYear * 5 + 2) / 153;
+        int month = (marchMonth + 2) % 12 + 1;
+        int day = (int) dayOfYear - (marchMonth * 306 + 5) / 10 + 1;
+        year += marchMonth / 10;
+
+        if (year < 0) {
+            builder.append('-');
+            year = -year;
+        } else if (year > 9999) {
+            builder.append('+');
+        }
+        if (year < 1000) {
+            builder.append(year < 10 ? "000" : year < 100 ? "00" : "0");
+        }
+        builder.append(year).append('-');
+        appendTwoDigits(builder, month);
+        builder.append('-');
+        appendTwoDigits(builder, day);
+    }
+
+    /**
+     * 写入 {@code HH:mm:ss[.SSS]} 形式的时间，纳秒部分为 0 时不输出小数部分
+     *
+     * @param secondOfDay 当天的秒数
+     * @param nano        纳秒部分
+     */
+    static void appendTime(StringBuilder builder, int secondOfDay, int nano) {
+        appendTwoDigits(builder, secondOfDay / 3600);
+        builder.append(':');
+        appendTwoDigits(builder, secondOfDay / 60 % 60);
+        builder.append(':');
+        appendTwoDigits(builder, secondOfDay % 60);
+        if (nano == 0) {
+            return;
+        }
+        builder.append('.');
+        int digits;
+        int value;
+        if (nano % 1000_000 == 0) {
+            digits = 3;
+            value = nano / 1000_000;
+        } else if (nano % 1000 == 0) {
+            digits = 6;
+            value = nano / 1000;
+        } else {
+            digits = 9;
+            value = nano;
+        }
+        for (int scale = digits == 3 ? 100 : digits == 6 ? 100_000 : 100_000_000; scale > 0; scale /= 10) {
+            builder.append((char) ('0' + value / scale % 10));
+        }
+    }
+
+    /**
+     * 写入 {@code ±hh:mm[:ss]} 形式的偏移量，偏移量为 0 时写入 {@code Z}
+     */
+    static void appendOffset(StringBuilder builder, int offset) {
+        if (offset == 0) {
+            builder.append('Z');
+            return;
+        }
+        builder.append(offset < 0 ? '-' : '+');
+        int total = Math.abs(offset);
+        appendTwoDigits(builder, total / 3600);
+        builder.append(':');
+        appendTwoDigits(builder, total / 60 % 60);
+        if (total % 60 != 0) {
+            builder.append(':');
+            appendTwoDigits(builder, total % 60);
+        }
+    }
+
+    private static void appendTwoDigits(StringBuilder builder, int value) {
+        builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+}
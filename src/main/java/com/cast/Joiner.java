@@ -0,0 +1,280 @@
+package com.cast;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 将数组或集合中的元素用分隔符连接为字符串，忽略 {@code null} 元素及转换后为空字符串的元素
+ * <ul>
+ *     <li>每种基本类型的数组都有单独的实现，数字直接写入 {@code StringBuilder}，不会装箱，也不会创建临时的字符串</li>
+ *     <li>{@code Object[]}、实现了 {@code RandomAccess} 的 {@code List} 按下标遍历，其他 {@code Collection} 使用迭代器遍历</li>
+ *     <li>{@code StringBuilder} 按元素个数预先分配容量，避免连接过程中反复扩容</li>
+ * </ul>
+ *
+ * @author Jon
+ */
+final class Joiner {
+
+    private Joiner() {
+    }
+
+    /**
+     * 默认的分隔符
+     */
+    static final String DELIMITER = ",";
+
+    /**
+     * 判断是否是可以连接的对象，即数组或 {@code Collection}
+     */
+    static boolean isJoinable(Object obj) {
+        return Utils.isArray(obj) || obj instanceof Collection;
+    }
+
+    /**
+     * 将数组或集合中的元素用分隔符连接为字符串
+     * <p>例：int[]{1, 2, 3} => "1,2,3"</p>
+     *
+     * @param values    数组或 {@code Collection}
+     * @param delimiter 分隔符，为 {@code null} 时使用 {@link #DELIMITER}
+     * @return 连接后的字符串，如果指定的数据为 {@code null} 或长度为 0，返回空字符串
+     * @throws IllegalArgumentException 指定的对象不是数组或 {@code Collection} 时
+     */
+    static String join(Object values, CharSequence delimiter) {
+        if (delimiter == null) {
+            delimiter = DELIMITER;
+        }
+        int size = sizeOf(values);
+        if (size == 0) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder((int) Math.min(Integer.MAX_VALUE - 8,
+            (long) size * (widthOf(values) + delimiter.length())));
+        append(builder, values, delimiter);
+        return builder.toString();
+    }
+
+    /**
+     * 将数组或集合中的元素用分隔符连接后写入指定的 {@code Appendable}
+     * <p>目标是 {@code StringBuilder} 时直接写入；其他目标每次只在复用的 {@code StringBuilder} 中生成一个元素，写出后清空，
+     * 字符串元素直接写出，不会先生成完整的结果</p>
+     *
+     * @param out       写入的目标
+     * @param values    数组或 {@code Collection}，为 {@code null} 时不写入任何内容
+     * @param delimiter 分隔符
+     * @throws IllegalArgumentException 指定的对象不是数组或 {@code Collection} 时
+     * @throws CastException            写入失败时
+     */
+    static void append(Appendable out, Object values, CharSequence delimiter) {
+        if (values == null) {
+            return;
+        }
+        if (out instanceof StringBuilder) {
+            append((StringBuilder) out, null, values, delimiter);
+        } else {
+            append(new StringBuilder(32), out, values, delimiter);
+        }
+    }
+
+    /**
+     * 将元素写入 {@code builder}，{@code out} 不为 {@code null} 时每写入一个元素就写出到 {@code out} 并清空 {@code builder}
+     */
+    private static void append(StringBuilder builder, Appendable out, Object values, CharSequence delimiter) {
+        if (values instanceof int[]) {
+            int[] array = (int[]) values;
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    builder.append(delimiter);
+                }
+                builder.append(array[i]);
+                flush(builder, out);
+            }
+        } else if (values instanceof long[]) {
+            long[] array = (long[]) values;
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    builder.append(delimiter);
+                }
+                builder.append(array[i]);
+                flush(builder, out);
+            }
+        } else if (values instanceof double[]) {
+            double[] array = (double[]) values;
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    builder.append(delimiter);
+                }
+                builder.append(array[i]);
+                flush(builder, out);
+            }
+        } else if (values instanceof float[]) {
+            float[] array = (float[]) values;
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    builder.append(delimiter);
+                }
+                builder.append(array[i]);
+                flush(builder, out);
+            }
+        } else if (values instanceof short[]) {
+            short[] array = (short[]) values;
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    builder.append(delimiter);
+                }
+                builder.append(array[i]);
+                flush(builder, out);
+            }
+        } else if (values instanceof byte[]) {
+            byte[] array = (byte[]) values;
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    builder.append(delimiter);
+                }
+                builder.append(array[i]);
+                flush(builder, out);
+            }
+        } else if (values instanceof char[]) {
+            char[] array = (char[]) values;
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    builder.append(delimiter);
+                }
+                builder.append(array[i]);
+                flush(builder, out);
+            }
+        } else if (values instanceof boolean[]) {
+            boolean[] array = (boolean[]) values;
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    builder.append(delimiter);
+                }
+                builder.append(array[i]);
+                flush(builder, out);
+            }
+        } else if (values instanceof Object[]) {
+            Object[] array = (Object[]) values;
+            boolean first = true;
+            for (Object item : array) {
+                first = appendItem(builder, out, item, delimiter, first);
+            }
+        } else if (values instanceof List && values instanceof RandomAccess) {
+            List<?> list = (List<?>) values;
+            boolean first = true;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                first = appendItem(builder, out, list.get(i), delimiter, first);
+            }
+        } else if (values instanceof Collection) {
+            boolean first = true;
+            for (Object item : (Collection<?>) values) {
+                first = appendItem(builder, out, item, delimiter, first);
+            }
+        } else {
+            throw new IllegalArgumentException("not an array or collection: " + values.getClass().getName());
+        }
+    }
+
+    /**
+     * 写入一个元素，常见的数字类型直接写入，其他类型调用 {@code toString} 方法
+     *
+     * @param out   不为 {@code null} 时写出的目标，字符串元素不经过 {@code builder} 直接写出
+     * @param first 是否还没有写入过元素
+     * @return 写入后是否仍然没有写入过元素
+     */
+    private static boolean appendItem(StringBuilder builder, Appendable out, Object item, CharSequence delimiter,
+                                      boolean first) {
+        if (item == null) {
+            return first;
+        }
+        if (item instanceof Integer || item instanceof Long || item instanceof Short || item instanceof Byte) {
+            appendDelimiter(builder, delimiter, first);
+            builder.append(((Number) item).longValue());
+        } else if (item instanceof Double) {
+            appendDelimiter(builder, delimiter, first);
+            builder.append(((Double) item).doubleValue());
+        } else if (item instanceof Float) {
+            appendDelimiter(builder, delimiter, first);
+            builder.append(((Float) item).floatValue());
+        } else {
+            CharSequence str = item instanceof CharSequence ? (CharSequence) item : item.toString();
+            if (str.length() == 0) {
+                return first;
+            }
+            appendDelimiter(builder, delimiter, first);
+            if (out == null) {
+                builder.append(str);
+                return false;
+            }
+            flush(builder, out);
+            write(out, str);
+            return false;
+        }
+        flush(builder, out);
+        return false;
+    }
+
+    /**
+     * 将 {@code builder} 中的内容写出到 {@code out} 后清空，{@code out} 为 {@code null} 时不做任何处理
+     */
+    private static void flush(StringBuilder builder, Appendable out) {
+        if (out != null && builder.length() > 0) {
+            write(out, builder);
+            builder.setLength(0);
+        }
+    }
+
+    private static void write(Appendable out, CharSequence value) {
+        try {
+            out.append(value);
+        } catch (IOException e) {
+            throw new CastException(e);
+        }
+    }
+
+    private static void appendDelimiter(StringBuilder builder, CharSequence delimiter, boolean first) {
+        if (!first) {
+            builder.append(delimiter);
+        }
+    }
+
+    private static int sizeOf(Object values) {
+        if (values == null) {
+            return 0;
+        }
+        if (values instanceof Collection) {
+            return ((Collection<?>) values).size();
+        }
+        if (Utils.isArray(values)) {
+            return Array.getLength(values);
+        }
+        throw new IllegalArgumentException("not an array or collection: " + values.getClass().getName());
+    }
+
+    /**
+     * 估计每个元素转换后的平均长度，超过的部分由 {@code StringBuilder} 自行扩容
+     */
+    private static int widthOf(Object values) {
+        if (values instanceof char[]) {
+            return 1;
+        }
+        if (values instanceof byte[]) {
+            return 3;
+        }
+        if (values instanceof boolean[] || values instanceof short[]) {
+            return 5;
+        }
+        if (values instanceof int[]) {
+            return 6;
+        }
+        if (values instanceof long[] || values instanceof float[]) {
+            return 10;
+        }
+        if (values instanceof double[]) {
+            return 16;
+        }
+        return 8;
+    }
+
+}
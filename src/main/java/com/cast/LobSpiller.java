@@ -0,0 +1,174 @@
+package com.cast;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 读取大对象（{@code Blob}、{@code Clob}、{@code InputStream}、{@code Reader}）时，超过阈值的部分写入临时文件，
+ * 再以只读的方式映射到内存返回视图，堆中最多只保留阈值大小的数据
+ * <p>临时文件在映射后立即关闭并删除，映射的内容在缓冲区被回收之前仍然有效。
+ * 受 {@code ByteBuffer} 的限制，映射的数据不能超过 {@link Integer#MAX_VALUE} 个字节，字符以 UTF-16 保存，不能超过其一半</p>
+ *
+ * @author Jon
+ */
+final class LobSpiller {
+
+    private LobSpiller() {
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 读取输入流中剩余的全部字节，不会关闭输入流
+     *
+     * @param in        输入流
+     * @param length    预计的长度，未知时为 {@link ByteStreamReader#UNKNOWN_LENGTH}
+     * @param threshold 保留在堆中的最大字节数，超过时写入临时文件，不能为负数
+     * @return 堆中的缓冲区或映射的只读缓冲区
+     * @throws CastException 读取或写入临时文件失败，或者数据超过 {@link Integer#MAX_VALUE} 个字节时
+     */
+    static ByteBuffer readBytes(InputStream in, long length, long threshold) {
+        try {
+            if (length >= 0 && length <= threshold) {
+                return ByteBuffer.wrap(ByteStreamReader.read(in, length, ByteStreamReader.UNLIMITED));
+            }
+            int limit = (int) Math.min(threshold, Integer.MAX_VALUE - 8);
+            byte[] head = new byte[length < 0 ? Math.min(limit, 8192) : 0];
+            int size = 0;
+            while (length < 0) {
+                if (size == head.length) {
+                    if (size == limit) {
+                        break;
+                    }
+                    head = Arrays.copyOf(head, (int) Math.min(limit, Math.max((long) size * 2, 8192)));
+                }
+                int count = in.read(head, size, head.length - size);
+                if (count == -1) {
+                    return ByteBuffer.wrap(head, 0, size).slice();
+                }
+                size += count;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            int count = in.read(buffer.array());
+            if (count == -1 && length < 0) {
+                return ByteBuffer.wrap(head, 0, size).slice();
+            }
+            try (FileChannel channel = createTempFile()) {
+                writeFully(channel, ByteBuffer.wrap(head, 0, size));
+                while (count != -1) {
+                    // 通过 Buffer 调用，Java 8 的 ByteBuffer、CharBuffer 没有返回自身类型的 clear、limit 方法
+                    ((Buffer) buffer).clear().limit(count);
+                    writeFully(channel, buffer);
+                    count = in.read(buffer.array());
+                }
+                return map(channel);
+            }
+        } catch (IOException e) {
+            throw new CastException(e);
+        }
+    }
+
+    /**
+     * 读取字符流中剩余的全部字符，不会关闭字符流
+     *
+     * @param reader    字符流
+     * @param length    预计的长度，未知时为 {@link ByteStreamReader#UNKNOWN_LENGTH}
+     * @param threshold 保留在堆中的最大字符数，超过时以 UTF-16 的形式写入临时文件，不能为负数
+     * @return 堆中的字符串或映射的只读 {@code CharBuffer}
+     * @throws CastException 读取或写入临时文件失败，或者数据超过 {@link Integer#MAX_VALUE} 个字节时
+     */
+    static CharSequence readChars(Reader reader, long length, long threshold) {
+        try {
+            int limit = (int) Math.min(threshold, Integer.MAX_VALUE - 8);
+            StringBuilder head = new StringBuilder(length >= 0 && length <= limit ? (int) length : Math.min(limit, 8192));
+            char[] chars = new char[BUFFER_SIZE / 2];
+            int count;
+            while ((count = reader.read(chars, 0, Math.min(chars.length, limit - head.length() + 1))) != -1) {
+                if (head.length() + count > limit) {
+                    return spillChars(reader, head, chars, count);
+                }
+                head.append(chars, 0, count);
+            }
+            return head.toString();
+        } catch (IOException e) {
+            throw new CastException(e);
+        }
+    }
+
+    /**
+     * 检查保留在堆中的阈值
+     *
+     * @throws IllegalArgumentException 阈值为负数时
+     */
+    static void checkThreshold(long threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("spill threshold must not be negative: " + threshold);
+        }
+    }
+
+    private static CharSequence spillChars(Reader reader, CharSequence head, char[] chars, int count) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        CharBuffer view = buffer.asCharBuffer();
+        try (FileChannel channel = createTempFile()) {
+            for (int start = 0; start < head.length(); start += view.capacity()) {
+                int end = Math.min(head.length(), start + view.capacity());
+                ((Buffer) view).clear();
+                view.append(head, start, end);
+                ((Buffer) buffer).clear().limit((end - start) * 2);
+                writeFully(channel, buffer);
+            }
+            while (count != -1) {
+                ((Buffer) view).clear();
+                view.put(chars, 0, count);
+                ((Buffer) buffer).clear().limit(count * 2);
+                writeFully(channel, buffer);
+                count = reader.read(chars);
+            }
+            return map(channel).asCharBuffer();
+        }
+    }
+
+    /**
+     * 创建关闭时自动删除的临时文件，打开失败时立即删除已创建的文件
+     */
+    private static FileChannel createTempFile() throws IOException {
+        Path file = Files.createTempFile("cast-", ".spill");
+        try {
+            return FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 将缓冲区写入临时文件，文件超过能够映射的大小时立即失败，不会继续写入
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (channel.position() > Integer.MAX_VALUE) {
+            throw new CastException("the value is too large to map into a single ByteBuffer: more than "
+                + Integer.MAX_VALUE + " bytes");
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+
+}
@@ -0,0 +1,698 @@
+package com.cast;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * 数字解析工具，直接在 {@code CharSequence} 上解析，不创建中间字符串及包装类型对象
+ * <p>所有解析方法在无法解析时返回调用方提供的默认值，不会抛出异常</p>
+ *
+ * @author Jon
+ */
+final class NumberParser {
+
+    private NumberParser() {
+    }
+
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    static final long[] LONG_POWERS_OF_TEN = {
+        1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+        10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+        1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L
+    };
+
+    private static final BigInteger TEN_POW_18 = BigInteger.valueOf(LONG_POWERS_OF_TEN[18]);
+
+    /**
+     * 超过该位数的十进制整数使用分治算法解析，该值来自 {@code BigIntegerParseBenchmark} 的测试结果
+     */
+    static final int DIVIDE_AND_CONQUER_THRESHOLD = 288;
+
+    /**
+     * 缓存的 10 的幂 {@code 10^(18 * 2^power)} 的最大 {@code power}，对应约 7.4 万位，足以解析 14 万位以内的数字；
+     * 更大的幂只在单次解析中计算，不会常驻内存，避免一次超长的输入使缓存永久占用大量内存
+     */
+    static final int MAX_CACHED_TEN_POWER = 12;
+
+    private static volatile BigInteger[] tenPowers = {TEN_POW_18};
+
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    /**
+     * 将字符串解析为 {@code long}，规则与 {@link Long#valueOf(String)} 一致，并支持 {@link Long#decode(String)} 的十六进制格式
+     * （{@code 0x}、{@code 0X}、{@code #}）
+     *
+     * @param value        要解析的字符串
+     * @param defaultValue 无法解析或超出范围时返回的默认值
+     * @return 解析后的值或默认值
+     */
+    static long parseLong(CharSequence value, long defaultValue) {
+        return parseLong(value, 0, value.length(), defaultValue);
+    }
+
+    /**
+     * 解析字符串中 {@code [start, end)} 范围内的字符为 {@code long}
+     *
+     * @see NumberParser#parseLong(CharSequence, long)
+     */
+    static long parseLong(CharSequence value, int start, int end, long defaultValue) {
+        if (start >= end) {
+            return defaultValue;
+        }
+        int index = start;
+        char c = value.charAt(index);
+        boolean negative = false;
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            if (++index == end) {
+                return defaultValue;
+            }
+            c = value.charAt(index);
+        }
+        int radix = 10;
+        if (c == '#') {
+            index++;
+            radix = 16;
+        } else if (c == '0' && index + 1 < end && (value.charAt(index + 1) | 0x20) == 'x') {
+            index += 2;
+            radix = 16;
+        }
+        if (index == end) {
+            return defaultValue;
+        }
+        // 与 Long.parseLong 相同，以负数累加，从而可以表示 Long.MIN_VALUE
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multmin = limit / radix;
+        long result = 0;
+        for (; index < end; index++) {
+            int digit = digit(value.charAt(index), radix);
+            if (digit < 0 || result < multmin) {
+                return defaultValue;
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                return defaultValue;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * 将字符串解析为 {@code int}，超出 {@code int} 范围时返回默认值
+     *
+     * @see NumberParser#parseLong(CharSequence, int, int, long)
+     */
+    static int parseInt(CharSequence value, int start, int end, int defaultValue) {
+        long result = parseLong(value, start, end, Long.MIN_VALUE);
+        return result < Integer.MIN_VALUE || result > Integer.MAX_VALUE ? defaultValue : (int) result;
+    }
+
+    /**
+     * 将字符串解析为 {@code double}，规则与 {@link Double#valueOf(String)} 一致
+     *
+     * @param value        要解析的字符串
+     * @param defaultValue 无法解析时返回的默认值
+     * @return 解析后的值或默认值
+     */
+    static double parseDouble(CharSequence value, double defaultValue) {
+        return parseDecimal(value, 0, value.length(), false, defaultValue);
+    }
+
+    /**
+     * 解析字符串中 {@code [start, end)} 范围内的字符为 {@code double}
+     *
+     * @see NumberParser#parseDouble(CharSequence, double)
+     */
+    static double parseDouble(CharSequence value, int start, int end, double defaultValue) {
+        return parseDecimal(value, start, end, false, defaultValue);
+    }
+
+    /**
+     * 将字符串解析为 {@code float}，规则与 {@link Float#valueOf(String)} 一致
+     *
+     * @param value        要解析的字符串
+     * @param defaultValue 无法解析时返回的默认值
+     * @return 解析后的值或默认值
+     */
+    static float parseFloat(CharSequence value, float defaultValue) {
+        return (float) parseDecimal(value, 0, value.length(), true, defaultValue);
+    }
+
+    /**
+     * 解析字符串中 {@code [start, end)} 范围内的字符为 {@code float}
+     *
+     * @see NumberParser#parseFloat(CharSequence, float)
+     */
+    static float parseFloat(CharSequence value, int start, int end, float defaultValue) {
+        return (float) parseDecimal(value, start, end, true, defaultValue);
+    }
+
+    /**
+     * 解析十进制浮点数。先完成语法校验并提取有效数字与十进制指数，再计算正确舍入的结果，
+     * 只有无法快速确定舍入方向的少数情况才交给 JDK 处理。
+     *
+     * @param single 是否解析为单精度浮点数
+     */
+    private static double parseDecimal(CharSequence value, int start, int end, boolean single, double defaultValue) {
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return defaultValue;
+        }
+        int index = start;
+        char c = value.charAt(index);
+        boolean negative = false;
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            if (++index == end) {
+                return defaultValue;
+            }
+            c = value.charAt(index);
+        }
+        if (c == 'N') {
+            return regionEquals(value, index, end, "NaN") ? Double.NaN : defaultValue;
+        }
+        if (c == 'I') {
+            if (!regionEquals(value, index, end, "Infinity")) {
+                return defaultValue;
+            }
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        if (c == '0' && index + 1 < end && (value.charAt(index + 1) | 0x20) == 'x') {
+            return parseHexDecimal(value, start, end, index + 2, single, defaultValue);
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean anyDigits = false;
+        boolean truncated = false;
+        for (; index < end; index++) {
+            c = value.charAt(index);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            anyDigits = true;
+            if (significantDigits < 19) {
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa != 0) {
+                    significantDigits++;
+                }
+            } else {
+                exponent++;
+                truncated |= c != '0';
+            }
+        }
+        if (index < end && value.charAt(index) == '.') {
+            for (index++; index < end; index++) {
+                c = value.charAt(index);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                anyDigits = true;
+                if (significantDigits < 19) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    exponent--;
+                    if (mantissa != 0) {
+                        significantDigits++;
+                    }
+                } else {
+                    truncated |= c != '0';
+                }
+            }
+        }
+        if (!anyDigits) {
+            return defaultValue;
+        }
+        if (index < end && (value.charAt(index) | 0x20) == 'e') {
+            if (++index == end) {
+                return defaultValue;
+            }
+            c = value.charAt(index);
+            boolean negativeExponent = false;
+            if (c == '-' || c == '+') {
+                negativeExponent = c == '-';
+                index++;
+            }
+            int exponentStart = index;
+            int explicitExponent = 0;
+            for (; index < end; index++) {
+                c = value.charAt(index);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                if (explicitExponent < 100000) {
+                    explicitExponent = explicitExponent * 10 + (c - '0');
+                }
+            }
+            if (index == exponentStart) {
+                return defaultValue;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (index < end && isTypeSuffix(value.charAt(index))) {
+            index++;
+        }
+        if (index != end) {
+            return defaultValue;
+        }
+        double result = toDouble(negative, mantissa, exponent, truncated, single);
+        if (result == result) {
+            return result;
+        }
+        String text = value.subSequence(start, end).toString();
+        return single ? Float.parseFloat(text) : Double.parseDouble(text);
+    }
+
+    /**
+     * 根据扫描得到的有效数字与十进制指数计算正确舍入的浮点数
+     * <p>在尾数与 10 的幂均可精确表示时，通过一次乘法或除法得到结果，否则使用 {@link EiselLemire} 算法计算</p>
+     *
+     * @param negative  是否为负数
+     * @param mantissa  有效数字，按无符号数处理
+     * @param exponent  十进制指数
+     * @param truncated 有效数字是否被截断
+     * @param single    是否计算单精度浮点数
+     * @return 计算结果，无法快速确定正确舍入的结果时返回 {@code NaN}，由调用方回退到完整的解析
+     */
+    static double toDouble(boolean negative, long mantissa, int exponent, boolean truncated, boolean single) {
+        if (mantissa == 0) {
+            return negative ? -0.0d : 0.0d;
+        }
+        if (!truncated) {
+            if (single) {
+                if (mantissa >= 0 && mantissa <= 1L << 24 && exponent >= -10 && exponent <= 10) {
+                    float result = mantissa;
+                    result = exponent < 0 ? result / FLOAT_POWERS_OF_TEN[-exponent] : result * FLOAT_POWERS_OF_TEN[exponent];
+                    return negative ? -result : result;
+                }
+            } else if (mantissa >= 0 && mantissa <= 1L << 53 && exponent >= -22 && exponent <= 22) {
+                double result = mantissa;
+                result = exponent < 0 ? result / DOUBLE_POWERS_OF_TEN[-exponent] : result * DOUBLE_POWERS_OF_TEN[exponent];
+                return negative ? -result : result;
+            }
+        }
+        return EiselLemire.toDouble(negative, mantissa, exponent, truncated, single);
+    }
+
+    /**
+     * 校验十六进制浮点数语法（例：{@code 0x1.8p1}），校验通过后交给 JDK 解析，从而不会抛出异常
+     */
+    private static double parseHexDecimal(CharSequence value, int start, int end, int index, boolean single,
+                                          double defaultValue) {
+        boolean anyDigits = false;
+        for (; index < end && digit(value.charAt(index), 16) >= 0; index++) {
+            anyDigits = true;
+        }
+        if (index < end && value.charAt(index) == '.') {
+            for (index++; index < end && digit(value.charAt(index), 16) >= 0; index++) {
+                anyDigits = true;
+            }
+        }
+        if (!anyDigits || index == end || (value.charAt(index) | 0x20) != 'p') {
+            return defaultValue;
+        }
+        if (++index < end && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+            index++;
+        }
+        int exponentStart = index;
+        for (; index < end && digit(value.charAt(index), 10) >= 0; index++) {
+        }
+        if (index == exponentStart) {
+            return defaultValue;
+        }
+        if (index < end && isTypeSuffix(value.charAt(index))) {
+            index++;
+        }
+        if (index != end) {
+            return defaultValue;
+        }
+        String text = value.subSequence(start, end).toString();
+        return single ? Float.parseFloat(text) : Double.parseDouble(text);
+    }
+
+    /**
+     * 解析字符串中 {@code [start, end)} 范围内的字符为 {@code BigInteger}，支持符号及十六进制格式（{@code 0x}、{@code 0X}、{@code #}）
+     * <p>按块直接从字符中累加数值，不会创建子字符串</p>
+     *
+     * @return 解析后的值，无法解析时返回 {@code null}
+     */
+    static BigInteger parseBigInteger(CharSequence value, int start, int end) {
+        if (start >= end) {
+            return null;
+        }
+        int index = start;
+        char c = value.charAt(index);
+        boolean negative = false;
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            if (++index == end) {
+                return null;
+            }
+            c = value.charAt(index);
+        }
+        int radix = 10;
+        if (c == '#') {
+            index++;
+            radix = 16;
+        } else if (c == '0' && index + 1 < end && (value.charAt(index + 1) | 0x20) == 'x') {
+            index += 2;
+            radix = 16;
+        }
+        BigInteger result = parseUnsignedBigInteger(value, index, end, radix);
+        return result != null && negative ? result.negate() : result;
+    }
+
+    /**
+     * 解析字符串中 {@code [start, end)} 范围内的字符为 {@code BigDecimal}，语法与 {@link BigDecimal#BigDecimal(String)} 一致
+     * <p>有效数字不超过 18 位时直接通过 {@link BigDecimal#valueOf(long, int)} 构造，否则按块解析出非标度值，不会创建子字符串</p>
+     *
+     * @return 解析后的值，无法解析时返回 {@code null}
+     */
+    static BigDecimal parseBigDecimal(CharSequence value, int start, int end) {
+        if (start >= end) {
+            return null;
+        }
+        int index = start;
+        char c = value.charAt(index);
+        boolean negative = false;
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            index++;
+        }
+        int integerStart = index;
+        while (index < end && (c = value.charAt(index)) >= '0' && c <= '9') {
+            index++;
+        }
+        int integerEnd = index;
+        int fractionStart = index;
+        int fractionEnd = index;
+        if (index < end && value.charAt(index) == '.') {
+            fractionStart = ++index;
+            while (index < end && (c = value.charAt(index)) >= '0' && c <= '9') {
+                index++;
+            }
+            fractionEnd = index;
+        }
+        int integerDigits = integerEnd - integerStart;
+        int fractionDigits = fractionEnd - fractionStart;
+        if (integerDigits == 0 && fractionDigits == 0) {
+            return null;
+        }
+        long exponent = 0;
+        if (index < end) {
+            if ((value.charAt(index) | 0x20) != 'e' || ++index == end) {
+                return null;
+            }
+            c = value.charAt(index);
+            boolean negativeExponent = false;
+            if (c == '-' || c == '+') {
+                negativeExponent = c == '-';
+                index++;
+            }
+            int exponentStart = index;
+            for (; index < end && (c = value.charAt(index)) >= '0' && c <= '9'; index++) {
+                if (exponent <= Integer.MAX_VALUE) {
+                    exponent = exponent * 10 + (c - '0');
+                }
+            }
+            if (index != end || index == exponentStart) {
+                return null;
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+        long scale = fractionDigits - exponent;
+        if (scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE) {
+            return null;
+        }
+        if (integerDigits + fractionDigits <= 18) {
+            long unscaled = parseChunk(value, integerStart, integerEnd, 10);
+            unscaled = unscaled * LONG_POWERS_OF_TEN[fractionDigits] + parseChunk(value, fractionStart, fractionEnd, 10);
+            return BigDecimal.valueOf(negative ? -unscaled : unscaled, (int) scale);
+        }
+        BigInteger unscaled;
+        if (fractionDigits == 0) {
+            unscaled = parseUnsignedBigInteger(value, integerStart, integerEnd, 10);
+        } else if (integerDigits == 0) {
+            unscaled = parseUnsignedBigInteger(value, fractionStart, fractionEnd, 10);
+        } else {
+            unscaled = parseUnsignedBigInteger(value, integerStart, integerEnd, 10)
+                .multiply(BigInteger.TEN.pow(fractionDigits))
+                .add(parseUnsignedBigInteger(value, fractionStart, fractionEnd, 10));
+        }
+        return new BigDecimal(negative ? unscaled.negate() : unscaled, (int) scale);
+    }
+
+    /**
+     * 解析不带符号的整数
+     *
+     * @return 解析后的值，包含非法字符时返回 {@code null}
+     */
+    private static BigInteger parseUnsignedBigInteger(CharSequence value, int start, int end, int radix) {
+        if (start >= end) {
+            return null;
+        }
+        if (radix == 16) {
+            return parseUnsignedHexBigInteger(value, start, end);
+        }
+        return end - start > DIVIDE_AND_CONQUER_THRESHOLD
+            ? parseDecimalBigIntegerRecursive(value, start, end)
+            : parseDecimalBigIntegerLinear(value, start, end);
+    }
+
+    /**
+     * 逐块解析十进制整数，每 18 位为一块，在 {@code long} 中完成累加后再合并到结果中。
+     * 每次合并都要将已有结果乘以 {@code 10^18}，耗时与位数的平方成正比，只适用于较短的数字。
+     *
+     * @return 解析后的值，包含非法字符时返回 {@code null}
+     */
+    static BigInteger parseDecimalBigIntegerLinear(CharSequence value, int start, int end) {
+        int firstChunkEnd = start + ((end - start - 1) % 18) + 1;
+        long chunk = parseChunk(value, start, firstChunkEnd, 10);
+        if (chunk < 0) {
+            return null;
+        }
+        BigInteger result = BigInteger.valueOf(chunk);
+        for (int index = firstChunkEnd; index < end; index += 18) {
+            chunk = parseChunk(value, index, index + 18, 10);
+            if (chunk < 0) {
+                return null;
+            }
+            result = result.multiply(TEN_POW_18).add(BigInteger.valueOf(chunk));
+        }
+        return result;
+    }
+
+    /**
+     * 分治解析十进制整数：将数字分为高低两部分分别解析，再通过 {@code high * 10^n + low} 合并。
+     * 低位部分的位数总是 {@code 18 * 2^k}，对应的 10 的幂会被缓存；由于 {@link BigInteger#multiply(BigInteger)}
+     * 对大数使用 Karatsuba 及 Toom-Cook 算法，整体耗时低于平方级别。
+     *
+     * @return 解析后的值，包含非法字符时返回 {@code null}
+     */
+    static BigInteger parseDecimalBigIntegerRecursive(CharSequence value, int start, int end) {
+        int power = splitPower(end - start);
+        // 超出缓存范围的幂保存在本次解析的数组中，解析结束后即可回收
+        BigInteger[] largePowers = power > MAX_CACHED_TEN_POWER ? new BigInteger[power + 1] : null;
+        return parseDecimalBigIntegerRecursive(value, start, end, largePowers);
+    }
+
+    private static BigInteger parseDecimalBigIntegerRecursive(CharSequence value, int start, int end,
+                                                              BigInteger[] largePowers) {
+        int length = end - start;
+        if (length <= DIVIDE_AND_CONQUER_THRESHOLD) {
+            return parseDecimalBigIntegerLinear(value, start, end);
+        }
+        int power = splitPower(length);
+        int split = end - (18 << power);
+        BigInteger high = parseDecimalBigIntegerRecursive(value, start, split, largePowers);
+        if (high == null) {
+            return null;
+        }
+        BigInteger low = parseDecimalBigIntegerRecursive(value, split, end, largePowers);
+        if (low == null) {
+            return null;
+        }
+        return high.multiply(tenPower(power, largePowers)).add(low);
+    }
+
+    /**
+     * 低位部分的位数为 {@code 18 * 2^power}，取满足该位数小于 {@code length} 的最大 {@code power}
+     */
+    private static int splitPower(int length) {
+        int power = 0;
+        while (18L << (power + 1) < length) {
+            power++;
+        }
+        return power;
+    }
+
+    /**
+     * 取得 {@code 10^(18 * 2^power)}，不超过 {@link #MAX_CACHED_TEN_POWER} 的结果全局缓存，更大的结果只保存在 {@code largePowers} 中
+     */
+    private static BigInteger tenPower(int power, BigInteger[] largePowers) {
+        if (power <= MAX_CACHED_TEN_POWER) {
+            return tenPower(power);
+        }
+        BigInteger result = largePowers[power];
+        if (result == null) {
+            BigInteger half = tenPower(power - 1, largePowers);
+            largePowers[power] = result = half.multiply(half);
+        }
+        return result;
+    }
+
+    /**
+     * 取得 {@code 10^(18 * 2^power)}，计算结果会被缓存，{@code power} 不超过 {@link #MAX_CACHED_TEN_POWER}
+     */
+    private static BigInteger tenPower(int power) {
+        BigInteger[] powers = tenPowers;
+        if (power < powers.length) {
+            return powers[power];
+        }
+        synchronized (NumberParser.class) {
+            powers = tenPowers;
+            if (power >= powers.length) {
+                BigInteger[] grown = Arrays.copyOf(powers, power + 1);
+                for (int i = powers.length; i <= power; i++) {
+                    grown[i] = grown[i - 1].multiply(grown[i - 1]);
+                }
+                tenPowers = powers = grown;
+            }
+            return powers[power];
+        }
+    }
+
+    /**
+     * 解析十六进制整数，直接将每两个数字合并为一个字节，再通过 {@link BigInteger#BigInteger(int, byte[])} 一次构造
+     *
+     * @return 解析后的值，包含非法字符时返回 {@code null}
+     */
+    private static BigInteger parseUnsignedHexBigInteger(CharSequence value, int start, int end) {
+        if (end - start <= 15) {
+            long chunk = parseChunk(value, start, end, 16);
+            return chunk < 0 ? null : BigInteger.valueOf(chunk);
+        }
+        byte[] magnitude = new byte[(end - start + 1) / 2];
+        int index = end;
+        for (int i = magnitude.length - 1; i >= 0; i--) {
+            int low = digit(value.charAt(--index), 16);
+            int high = index > start ? digit(value.charAt(--index), 16) : 0;
+            if (low < 0 || high < 0) {
+                return null;
+            }
+            magnitude[i] = (byte) (high << 4 | low);
+        }
+        return new BigInteger(1, magnitude);
+    }
+
+    /**
+     * 解析一段不会溢出 {@code long} 的数字
+     *
+     * @return 解析后的值，包含非法字符时返回 -1
+     */
+    private static long parseChunk(CharSequence value, int start, int end, int radix) {
+        long result = 0;
+        for (int index = start; index < end; index++) {
+            int digit = digit(value.charAt(index), radix);
+            if (digit < 0) {
+                return -1;
+            }
+            result = result * radix + digit;
+        }
+        return result;
+    }
+
+    /**
+     * 解析字符数组中 {@code [start, end)} 范围内的字符为 {@code long}，规则与 {@link NumberParser#parseLong(CharSequence, long)} 一致
+     */
+    static long parseLong(char[] value, int start, int end, long defaultValue) {
+        if (start >= end) {
+            return defaultValue;
+        }
+        int index = start;
+        char c = value[index];
+        boolean negative = false;
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            if (++index == end) {
+                return defaultValue;
+            }
+            c = value[index];
+        }
+        int radix = 10;
+        if (c == '#') {
+            index++;
+            radix = 16;
+        } else if (c == '0' && index + 1 < end && (value[index + 1] | 0x20) == 'x') {
+            index += 2;
+            radix = 16;
+        }
+        if (index == end) {
+            return defaultValue;
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multmin = limit / radix;
+        long result = 0;
+        for (; index < end; index++) {
+            int digit = digit(value[index], radix);
+            if (digit < 0 || result < multmin) {
+                return defaultValue;
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                return defaultValue;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    static boolean isTypeSuffix(char c) {
+        return c == 'd' || c == 'D' || c == 'f' || c == 'F';
+    }
+
+    private static boolean regionEquals(CharSequence value, int start, int end, String expected) {
+        int length = expected.length();
+        if (end - start != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(start + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 取得指定字符在指定进制下对应的数值，只支持 ASCII 字符
+     *
+     * @return 对应的数值，如果不是合法的数字字符返回 -1
+     */
+    static int digit(char c, int radix) {
+        int digit;
+        if (c >= '0' && c <= '9') {
+            digit = c - '0';
+        } else if ((c | 0x20) >= 'a' && (c | 0x20) <= 'z') {
+            digit = (c | 0x20) - 'a' + 10;
+        } else {
+            return -1;
+        }
+        return digit < radix ? digit : -1;
+    }
+
+}
@@ -0,0 +1,569 @@
+package com.cast;
+
+import java.nio.Buffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * 将分隔符连接的字符串、数组或集合转换为指定类型的数组或 {@code List}，是 {@link Joiner} 的逆操作
+ * <ul>
+ *     <li>字符串只遍历一次，每个片段直接在原字符串上解析，不会创建子字符串（目标类型为 {@code String} 或 {@code Character} 时除外）</li>
+ *     <li>基本类型数组直接写入，不会装箱</li>
+ *     <li>忽略空片段及 {@code null} 元素，与 {@link Joiner} 忽略的元素一致</li>
+ * </ul>
+ * <p>数字、布尔值、字符及枚举的转换规则与 {@link Cast} 中对应的方法一致，任何一个元素无法转换时抛出 {@link CastException}</p>
+ *
+ * @author Jon
+ */
+final class Splitter {
+
+    private Splitter() {
+    }
+
+    /**
+     * 将指定对象转换为 {@code int[]}
+     *
+     * @param obj       分隔符连接的字符串、数组、{@code Collection}，其他对象视为只有一个元素
+     * @param delimiter 分隔符，为 {@code null} 时使用 {@link Joiner#DELIMITER}
+     * @param trim      是否去掉每个片段前后的空白字符
+     * @return 转换后的数组，对象为 {@code null} 时返回 {@code null}
+     * @throws CastException            任何一个元素无法转换时
+     * @throws IllegalArgumentException 分隔符为空字符串时
+     */
+    static int[] toIntArray(Object obj, CharSequence delimiter, boolean trim) {
+        if (obj instanceof int[]) {
+            return ((int[]) obj).clone();
+        }
+        IntCollector collector = new IntCollector();
+        return split(obj, delimiter, trim, collector) ? collector.toArray() : null;
+    }
+
+    /**
+     * 将指定对象转换为 {@code long[]}，规则与 {@link #toIntArray(Object, CharSequence, boolean)} 一致
+     */
+    static long[] toLongArray(Object obj, CharSequence delimiter, boolean trim) {
+        if (obj instanceof long[]) {
+            return ((long[]) obj).clone();
+        }
+        LongCollector collector = new LongCollector();
+        return split(obj, delimiter, trim, collector) ? collector.toArray() : null;
+    }
+
+    /**
+     * 将指定对象转换为 {@code double[]}，规则与 {@link #toIntArray(Object, CharSequence, boolean)} 一致
+     */
+    static double[] toDoubleArray(Object obj, CharSequence delimiter, boolean trim) {
+        if (obj instanceof double[]) {
+            return ((double[]) obj).clone();
+        }
+        DoubleCollector collector = new DoubleCollector();
+        return split(obj, delimiter, trim, collector) ? collector.toArray() : null;
+    }
+
+    /**
+     * 将指定对象转换为元素类型为 {@code elementClass} 的 {@code List}，规则与 {@link #toIntArray(Object, CharSequence, boolean)} 一致
+     * <p>支持的元素类型为 {@code String}、数字类型、{@code Boolean}、{@code Character} 及枚举，其他类型只接受该类型的实例</p>
+     */
+    static <T> List<T> toList(Object obj, Class<T> elementClass, CharSequence delimiter, boolean trim) {
+        if (elementClass == null) {
+            throw new CastException("the element class is null");
+        }
+        ListCollector<T> collector = new ListCollector<>(elementClass);
+        return split(obj, delimiter, trim, collector) ? collector.list : null;
+    }
+
+    /**
+     * 将指定对象转换为 {@code EnumSet}，字符串中的每个片段直接在查找表中查找，不会创建子字符串
+     * <p>对象为 {@code Number} 时视为 {@link #toEnumMask(Object, Class, CharSequence, boolean)} 返回的位掩码，
+     * 数组及集合中的元素按 {@link ToEnumConverter} 的规则转换，其他规则与 {@link #toIntArray(Object, CharSequence, boolean)} 一致</p>
+     *
+     * @return 转换后的 {@code EnumSet}，对象为 {@code null} 时返回 {@code null}
+     * @throws CastException 任何一个元素无法转换，或位掩码中包含不存在的序数时
+     */
+    static <E extends Enum<E>> EnumSet<E> toEnumSet(Object obj, Class<E> enumClass, CharSequence delimiter, boolean trim) {
+        if (obj == null) {
+            return null;
+        }
+        EnumCollector<E> collector = new EnumCollector<>(enumClass, EnumSet.noneOf(enumClass));
+        if (obj instanceof Number) {
+            long mask = checkMask((Number) obj, collector.table, enumClass);
+            for (; mask != 0; mask &= mask - 1) {
+                collector.put(collector.table.get(Long.numberOfTrailingZeros(mask)));
+            }
+        } else {
+            split(obj, delimiter, trim, collector);
+        }
+        return collector.set;
+    }
+
+    /**
+     * 将指定对象转换为位掩码，第 n 位表示序数为 n 的常量，规则与 {@link #toEnumSet(Object, Class, CharSequence, boolean)} 一致
+     *
+     * @return 转换后的位掩码，对象为 {@code null} 时返回 0
+     * @throws CastException 枚举常量超过 64 个、任何一个元素无法转换，或位掩码中包含不存在的序数时
+     */
+    static long toEnumMask(Object obj, Class<? extends Enum<?>> enumClass, CharSequence delimiter, boolean trim) {
+        EnumCollector<?> collector = new EnumCollector<>(enumClass, null);
+        if (collector.table.size() > Long.SIZE) {
+            throw new CastException(enumClass + " has more than " + Long.SIZE + " constants, cannot cast to a long mask");
+        }
+        if (obj instanceof Number) {
+            return checkMask((Number) obj, collector.table, enumClass);
+        }
+        split(obj, delimiter, trim, collector);
+        return collector.mask;
+    }
+
+    private static long checkMask(Number value, EnumTable table, Class<?> enumClass) {
+        if (!Utils.isLongValueExact(value)) {
+            throw new CastException("the value [" + value + "] is not a valid mask of " + enumClass);
+        }
+        long mask = value.longValue();
+        if (table.size() < Long.SIZE && mask >>> table.size() != 0) {
+            throw new CastException("the mask [" + Long.toBinaryString(mask) + "] contains undefined constants of " + enumClass);
+        }
+        return mask;
+    }
+
+    /**
+     * 遍历对象中的元素并交给 {@code collector}
+     *
+     * @return 对象为 {@code null} 时返回 {@code false}
+     */
+    private static boolean split(Object obj, CharSequence delimiter, boolean trim, Collector collector) {
+        if (obj == null) {
+            return false;
+        }
+        if (delimiter == null) {
+            delimiter = Joiner.DELIMITER;
+        } else if (delimiter.length() == 0) {
+            throw new IllegalArgumentException("delimiter must not be empty");
+        }
+        if (obj instanceof CharSequence) {
+            splitChars((CharSequence) obj, delimiter, trim, collector);
+            return true;
+        }
+        if (obj instanceof Collection) {
+            for (Object element : (Collection<?>) obj) {
+                addElement(element, trim, collector);
+            }
+        } else if (obj instanceof Object[]) {
+            for (Object element : (Object[]) obj) {
+                addElement(element, trim, collector);
+            }
+        } else if (Utils.isArray(obj)) {
+            splitPrimitives(obj, collector);
+        } else {
+            addElement(obj, trim, collector);
+        }
+        return true;
+    }
+
+    /**
+     * 遍历基本类型数组，{@code int[]}、{@code long[]}、{@code double[]} 的元素不装箱直接交给 {@code collector}，
+     * 其他基本类型装箱为对应的包装类型，与 {@code Object[]} 中的元素规则一致
+     */
+    private static void splitPrimitives(Object array, Collector collector) {
+        if (array instanceof int[]) {
+            for (int value : (int[]) array) {
+                collector.add(value);
+            }
+        } else if (array instanceof long[]) {
+            for (long value : (long[]) array) {
+                collector.add(value);
+            }
+        } else if (array instanceof double[]) {
+            for (double value : (double[]) array) {
+                collector.add(value);
+            }
+        } else if (array instanceof float[]) {
+            for (float value : (float[]) array) {
+                collector.add((Object) value);
+            }
+        } else if (array instanceof short[]) {
+            for (short value : (short[]) array) {
+                collector.add((Object) value);
+            }
+        } else if (array instanceof byte[]) {
+            for (byte value : (byte[]) array) {
+                collector.add((Object) value);
+            }
+        } else if (array instanceof char[]) {
+            for (char value : (char[]) array) {
+                collector.add((Object) value);
+            }
+        } else if (array instanceof boolean[]) {
+            for (boolean value : (boolean[]) array) {
+                collector.add((Object) value);
+            }
+        }
+    }
+
+    private static void addElement(Object element, boolean trim, Collector collector) {
+        if (element == null) {
+            return;
+        }
+        if (element instanceof CharSequence) {
+            CharSequence value = (CharSequence) element;
+            int start = 0;
+            int end = value.length();
+            if (trim) {
+                while (start < end && value.charAt(start) <= ' ') {
+                    start++;
+                }
+                while (end > start && value.charAt(end - 1) <= ' ') {
+                    end--;
+                }
+            }
+            if (start < end) {
+                collector.add(value, start, end);
+            }
+            return;
+        }
+        collector.add(element);
+    }
+
+    /**
+     * 只遍历一次字符串，将分隔符之间的非空片段交给 {@code collector}
+     */
+    private static void splitChars(CharSequence value, CharSequence delimiter, boolean trim, Collector collector) {
+        int length = value.length();
+        int delimiterLength = delimiter.length();
+        char first = delimiter.charAt(0);
+        int start = 0;
+        for (int index = 0; index <= length; index++) {
+            if (index < length && (value.charAt(index) != first || !matches(value, index, delimiter))) {
+                continue;
+            }
+            int tokenStart = start;
+            int tokenEnd = index;
+            if (trim) {
+                while (tokenStart < tokenEnd && value.charAt(tokenStart) <= ' ') {
+                    tokenStart++;
+                }
+                while (tokenEnd > tokenStart && value.charAt(tokenEnd - 1) <= ' ') {
+                    tokenEnd--;
+                }
+            }
+            if (tokenStart < tokenEnd) {
+                collector.add(value, tokenStart, tokenEnd);
+            }
+            index += delimiterLength - 1;
+            start = index + 1;
+        }
+    }
+
+    private static boolean matches(CharSequence value, int index, CharSequence delimiter) {
+        int length = delimiter.length();
+        if (index + length > value.length()) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            if (value.charAt(index + i) != delimiter.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static CastException failure(CharSequence value, int start, int end, Class<?> targetClass) {
+        return new CastException("the value [" + value.subSequence(start, end) + "] cannot cast to " + targetClass);
+    }
+
+    /**
+     * 取得数字元素的整数值，与拆分字符串的规则一致，有小数部分或超出 {@code [min, max]} 的范围时失败，不会截断
+     */
+    private static long exactValue(Number value, long min, long max, Class<?> targetClass) {
+        if (!Utils.isLongValueExact(value) || value.longValue() < min || value.longValue() > max) {
+            throw new CastException("the value [" + value + "] cannot cast to " + targetClass);
+        }
+        return value.longValue();
+    }
+
+    /**
+     * 接收拆分出的元素
+     */
+    private abstract static class Collector {
+
+        /**
+         * 接收字符串中 {@code [start, end)} 范围内的片段，片段不为空
+         */
+        abstract void add(CharSequence value, int start, int end);
+
+        /**
+         * 接收数组或集合中的非字符串元素
+         */
+        abstract void add(Object element);
+
+        /**
+         * 接收 {@code int[]} 中的元素，默认装箱后交给 {@link #add(Object)}
+         */
+        void add(int value) {
+            add((Object) value);
+        }
+
+        /**
+         * 接收 {@code long[]} 中的元素，默认装箱后交给 {@link #add(Object)}
+         */
+        void add(long value) {
+            add((Object) value);
+        }
+
+        /**
+         * 接收 {@code double[]} 中的元素，默认装箱后交给 {@link #add(Object)}
+         */
+        void add(double value) {
+            add((Object) value);
+        }
+
+    }
+
+    private static final class IntCollector extends Collector {
+
+        private int[] values = new int[16];
+        private int size;
+
+        @Override
+        void add(CharSequence value, int start, int end) {
+            long result = NumberParser.parseLong(value, start, end, Long.MIN_VALUE);
+            if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+                throw failure(value, start, end, int.class);
+            }
+            add((int) result);
+        }
+
+        @Override
+        void add(Object element) {
+            add(element instanceof Number
+                ? (int) exactValue((Number) element, Integer.MIN_VALUE, Integer.MAX_VALUE, int.class)
+                : Converter.TO_NUMBER_CONVERTER.convert(element, Integer.class).intValue());
+        }
+
+        @Override
+        void add(long value) {
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw new CastException("the value [" + value + "] cannot cast to int");
+            }
+            add((int) value);
+        }
+
+        @Override
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+
+    }
+
+    private static final class LongCollector extends Collector {
+
+        private long[] values = new long[16];
+        private int size;
+
+        @Override
+        void add(CharSequence value, int start, int end) {
+            // 以两个不同的默认值解析，两次都返回各自的默认值时说明无法解析
+            long result = NumberParser.parseLong(value, start, end, Long.MIN_VALUE);
+            if (result == Long.MIN_VALUE && NumberParser.parseLong(value, start, end, Long.MAX_VALUE) == Long.MAX_VALUE) {
+                throw failure(value, start, end, long.class);
+            }
+            add(result);
+        }
+
+        @Override
+        void add(Object element) {
+            add(element instanceof Number
+                ? exactValue((Number) element, Long.MIN_VALUE, Long.MAX_VALUE, long.class)
+                : Converter.TO_NUMBER_CONVERTER.convert(element, Long.class).longValue());
+        }
+
+        @Override
+        void add(int value) {
+            add((long) value);
+        }
+
+        @Override
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+
+    }
+
+    private static final class DoubleCollector extends Collector {
+
+        private double[] values = new double[16];
+        private int size;
+
+        @Override
+        void add(CharSequence value, int start, int end) {
+            double result = NumberParser.parseDouble(value, start, end, Double.NaN);
+            if (result != result && NumberParser.parseDouble(value, start, end, 0d) == 0d) {
+                throw failure(value, start, end, double.class);
+            }
+            add(result);
+        }
+
+        @Override
+        void add(Object element) {
+            add(element instanceof Number
+                ? ((Number) element).doubleValue()
+                : Converter.TO_NUMBER_CONVERTER.convert(element, Double.class).doubleValue());
+        }
+
+        @Override
+        void add(int value) {
+            add((double) value);
+        }
+
+        @Override
+        void add(long value) {
+            add((double) value);
+        }
+
+        @Override
+        void add(double value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        double[] toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+
+    }
+
+    /**
+     * 将元素转换为枚举常量后加入 {@code EnumSet}，{@code EnumSet} 为 {@code null} 时只记录位掩码
+     */
+    private static final class EnumCollector<E extends Enum<E>> extends Collector {
+
+        private final Class<?> enumClass;
+        private final EnumTable table;
+        private final EnumSet<E> set;
+        private long mask;
+
+        EnumCollector(Class<?> enumClass, EnumSet<E> set) {
+            if (enumClass == null) {
+                throw new CastException("the target class is null");
+            }
+            this.enumClass = enumClass;
+            this.table = EnumTable.of(enumClass);
+            this.set = set;
+        }
+
+        @Override
+        void add(CharSequence value, int start, int end) {
+            Enum<?> result = table.find(value, start, end);
+            if (result == null) {
+                throw failure(value, start, end, enumClass);
+            }
+            put(result);
+        }
+
+        @Override
+        void add(Object element) {
+            put(Converter.TO_ENUM_CONVERTER.convert(element, enumClass.asSubclass(Enum.class)));
+        }
+
+        @SuppressWarnings("unchecked")
+        void put(Enum<?> constant) {
+            if (set != null) {
+                set.add((E) constant);
+            } else {
+                mask |= 1L << constant.ordinal();
+            }
+        }
+
+    }
+
+    private static final class ListCollector<T> extends Collector {
+
+        private final Class<T> elementClass;
+        private final List<T> list = new ArrayList<>();
+
+        /**
+         * 解析布尔值时复用的字符串视图及其对应的字符串
+         */
+        private CharBuffer view;
+        private CharSequence viewSource;
+
+        ListCollector(Class<T> elementClass) {
+            this.elementClass = elementClass;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        void add(CharSequence value, int start, int end) {
+            if (Number.class.isAssignableFrom(elementClass)) {
+                Number result = Utils.stringToTargetNumber(value, start, end, (Class<? extends Number>) elementClass);
+                if (result == null) {
+                    throw failure(value, start, end, elementClass);
+                }
+                list.add((T) result);
+            } else if (elementClass == Boolean.class) {
+                if (viewSource != value) {
+                    view = CharBuffer.wrap(value);
+                    viewSource = value;
+                }
+                // 通过 Buffer 调用，Java 8 的 CharBuffer 没有返回 CharBuffer 的 clear、position 方法
+                ((Buffer) view).clear().position(start).limit(end);
+                int result = ToBooleanConverter.match(view);
+                if (result < 0) {
+                    throw failure(value, start, end, elementClass);
+                }
+                list.add((T) Boolean.valueOf(result == 1));
+            } else if (elementClass.isEnum()) {
+                Enum<?> result = EnumTable.of(elementClass).find(value, start, end);
+                if (result == null) {
+                    throw failure(value, start, end, elementClass);
+                }
+                list.add((T) result);
+            } else {
+                add(value.subSequence(start, end).toString());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        void add(Object element) {
+            Object result;
+            if (elementClass == String.class) {
+                result = Converter.TO_STRING_CONVERTER.convert(element);
+            } else if (Number.class.isAssignableFrom(elementClass)) {
+                result = Converter.TO_NUMBER_CONVERTER.convert(element, (Class<? extends Number>) elementClass);
+            } else if (elementClass == Boolean.class) {
+                result = Converter.TO_BOOLEAN_CONVERTER.convert(element);
+            } else if (elementClass == Character.class) {
+                result = Converter.TO_CHAR_CONVERTER.convert(element);
+            } else if (elementClass.isEnum()) {
+                result = Converter.TO_ENUM_CONVERTER.convert(element, elementClass.asSubclass(Enum.class));
+            } else if (elementClass.isInstance(element)) {
+                result = element;
+            } else {
+                throw new CastException(element.getClass(), elementClass);
+            }
+            list.add((T) result);
+        }
+
+    }
+
+}
@@ -0,0 +1,251 @@
+package com.cast;
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 将字符序列按指定的字符集编码为字节，结果与 {@link String#getBytes(Charset)} 一致，无法编码的字符替换为字符集的默认替换字节
+ * <ul>
+ *     <li>US-ASCII、ISO-8859-1、UTF-8 直接在字符序列上逐个编码，不需要创建 {@code CharsetEncoder}，也不需要先转换为 {@code String}</li>
+ *     <li>其他字符集使用当前线程缓存的 {@code CharsetEncoder}，不会每次重新创建</li>
+ *     <li>可以直接编码到调用者提供的 {@code byte[]} 或 {@code ByteBuffer} 中</li>
+ * </ul>
+ *
+ * @author Jon
+ */
+final class StringEncoder {
+
+    private StringEncoder() {
+    }
+
+    /**
+     * 当前线程最近使用的 {@code CharsetEncoder}，{@code CharsetEncoder} 不是线程安全的
+     */
+    private static final ThreadLocal<CharsetEncoder> ENCODERS = new ThreadLocal<>();
+
+    /**
+     * 编码为长度正好的字节数组
+     */
+    static byte[] encode(CharSequence value, Charset charset) {
+        if (value instanceof String && isFastCharset(charset)) {
+            // String 自身的编码已经针对这几种字符集做了优化
+            return ((String) value).getBytes(charset);
+        }
+        if (isFastCharset(charset)) {
+            byte[] bytes = new byte[encodedLength(value, charset)];
+            encodeFast(value, charset, bytes, 0);
+            return bytes;
+        }
+        try {
+            ByteBuffer buffer = encoder(charset).encode(CharBuffer.wrap(value));
+            if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.array().length == buffer.limit()) {
+                return buffer.array();
+            }
+            return Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.arrayOffset() + buffer.limit());
+        } catch (CharacterCodingException e) {
+            // 已经设置为替换无法编码的字符，不会发生
+            throw new CastException(e);
+        }
+    }
+
+    /**
+     * 编码到指定的字节数组中
+     *
+     * @return 写入的字节数
+     * @throws IndexOutOfBoundsException 字节数组从 {@code offset} 开始的剩余空间不足时，此时写入的内容是不完整的
+     */
+    static int encode(CharSequence value, Charset charset, byte[] dest, int offset) {
+        if (offset < 0 || offset > dest.length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + dest.length);
+        }
+        int length = encode(value, charset, dest, offset, dest.length);
+        if (length < 0) {
+            throw new IndexOutOfBoundsException("no enough space in the destination from offset " + offset);
+        }
+        return length;
+    }
+
+    /**
+     * 编码到指定的 {@code ByteBuffer} 中，从其当前位置开始写入，写入后位置向后移动
+     *
+     * @return 写入的字节数
+     * @throws BufferOverflowException  缓冲区的剩余空间不足时，此时缓冲区的位置不会改变
+     * @throws ReadOnlyBufferException 缓冲区是只读的时
+     */
+    static int encode(CharSequence value, Charset charset, ByteBuffer dest) {
+        if (dest.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        int position = dest.position();
+        if (dest.hasArray()) {
+            int length = encode(value, charset, dest.array(), dest.arrayOffset() + position,
+                dest.arrayOffset() + dest.limit());
+            if (length < 0) {
+                throw new BufferOverflowException();
+            }
+            // 通过 Buffer 调用，Java 8 的 ByteBuffer 没有返回 ByteBuffer 的 position 方法
+            ((Buffer) dest).position(position + length);
+            return length;
+        }
+        if (isFastCharset(charset)) {
+            // 直接缓冲区先编码为字节数组再整体写入
+            byte[] bytes = encode(value, charset);
+            dest.put(bytes);
+            return bytes.length;
+        }
+        if (!encodeWithEncoder(value, charset, dest)) {
+            ((Buffer) dest).position(position);
+            throw new BufferOverflowException();
+        }
+        return dest.position() - position;
+    }
+
+    /**
+     * 编码到字节数组的 {@code [offset, end)} 范围中
+     *
+     * @return 写入的字节数，空间不足时返回 -1
+     */
+    private static int encode(CharSequence value, Charset charset, byte[] dest, int offset, int end) {
+        if (isFastCharset(charset)) {
+            int length = encodedLength(value, charset);
+            if (length > end - offset) {
+                return -1;
+            }
+            encodeFast(value, charset, dest, offset);
+            return length;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(dest, offset, end - offset);
+        return encodeWithEncoder(value, charset, buffer) ? buffer.position() - offset : -1;
+    }
+
+    /**
+     * 使用缓存的 {@code CharsetEncoder} 编码
+     *
+     * @return 空间足够时返回 {@code true}
+     */
+    private static boolean encodeWithEncoder(CharSequence value, Charset charset, ByteBuffer dest) {
+        CharsetEncoder encoder = encoder(charset);
+        CoderResult result = encoder.encode(CharBuffer.wrap(value), dest, true);
+        if (!result.isOverflow()) {
+            result = encoder.flush(dest);
+        }
+        return !result.isOverflow();
+    }
+
+    private static boolean isFastCharset(Charset charset) {
+        return charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.ISO_8859_1)
+            || charset.equals(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 计算按 US-ASCII、ISO-8859-1、UTF-8 编码后的字节数
+     */
+    private static int encodedLength(CharSequence value, Charset charset) {
+        int length = value.length();
+        if (!charset.equals(StandardCharsets.UTF_8)) {
+            // 成对的代理字符替换为一个 '?'
+            int result = length;
+            for (int i = 0; i < length - 1; i++) {
+                if (Character.isHighSurrogate(value.charAt(i)) && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    result--;
+                    i++;
+                }
+            }
+            return result;
+        }
+        long result = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                result++;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                // 两个字符编码为 4 个字节
+                result += 2;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // 不成对的代理字符替换为 '?'
+                continue;
+            } else {
+                result += 2;
+            }
+        }
+        if (result > Integer.MAX_VALUE - 8) {
+            throw new CastException("the encoded value is too large: " + result + " bytes");
+        }
+        return (int) result;
+    }
+
+    /**
+     * 按 US-ASCII、ISO-8859-1、UTF-8 编码，调用者需要保证空间足够
+     */
+    private static void encodeFast(CharSequence value, Charset charset, byte[] dest, int offset) {
+        int length = value.length();
+        if (!charset.equals(StandardCharsets.UTF_8)) {
+            char max = charset.equals(StandardCharsets.US_ASCII) ? (char) 0x7f : (char) 0xff;
+            for (int i = 0, index = offset; i < length; i++) {
+                char c = value.charAt(i);
+                if (c <= max) {
+                    dest[index++] = (byte) c;
+                    continue;
+                }
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    i++;
+                }
+                dest[index++] = (byte) '?';
+            }
+            return;
+        }
+        int index = offset;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                dest[index++] = (byte) c;
+            } else if (c < 0x800) {
+                dest[index++] = (byte) (0xc0 | c >> 6);
+                dest[index++] = (byte) (0x80 | c & 0x3f);
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    dest[index++] = (byte) (0xf0 | codePoint >> 18);
+                    dest[index++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+                    dest[index++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+                    dest[index++] = (byte) (0x80 | codePoint & 0x3f);
+                } else {
+                    dest[index++] = (byte) '?';
+                }
+            } else {
+                dest[index++] = (byte) (0xe0 | c >> 12);
+                dest[index++] = (byte) (0x80 | c >> 6 & 0x3f);
+                dest[index++] = (byte) (0x80 | c & 0x3f);
+            }
+        }
+    }
+
+    /**
+     * 取得当前线程缓存的指定字符集的 {@code CharsetEncoder}，无法编码的字符替换为字符集的默认替换字节
+     */
+    private static CharsetEncoder encoder(Charset charset) {
+        CharsetEncoder encoder = ENCODERS.get();
+        if (encoder == null || !encoder.charset().equals(charset)) {
+            encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            ENCODERS.set(encoder);
+        }
+        return encoder.reset();
+    }
+
+}
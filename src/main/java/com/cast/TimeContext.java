@@ -0,0 +1,187 @@
+package com.cast;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 日期时间转换的上下文，包含转换时使用的默认时区与时钟
+ * <p>对每个时区缓存当前的偏移量区间（直到下一次偏移量变化之前都有效），区间内本地时间与时间戳之间的转换只需要加减偏移量，
+ * 不需要查询时区规则；同时缓存时钟所在的“今天”，在日期变化之前不会重复计算</p>
+ *
+ * @author Jon
+ */
+final class TimeContext {
+
+    private TimeContext() {
+    }
+
+    /**
+     * 默认时区，为 {@code null} 时使用系统默认时区
+     */
+    private static volatile ZoneId defaultZone;
+
+    private static volatile Clock clock = Clock.systemUTC();
+
+    private static final ConcurrentMap<ZoneId, OffsetWindow> WINDOWS = new ConcurrentHashMap<>();
+
+    private static volatile Today today;
+
+    static void setDefaultZone(ZoneId zone) {
+        defaultZone = zone;
+    }
+
+    static void setClock(Clock value) {
+        clock = value == null ? Clock.systemUTC() : value;
+        today = null;
+    }
+
+    /**
+     * 取得转换时使用的时区，没有设置默认时区时每次读取系统默认时区，以跟随 {@code TimeZone.setDefault} 的修改
+     */
+    static ZoneId zone() {
+        ZoneId zone = defaultZone;
+        return zone == null ? ZoneId.systemDefault() : zone;
+    }
+
+    /**
+     * 取得指定时区在本地时间 {@code localSecond}（以 UTC 计算的秒数）时的偏移秒数，
+     * 处于偏移量变化的间隙或重叠时，与 {@link ZoneRules#getOffset(LocalDateTime)} 一致，返回变化之前的偏移量
+     */
+    static int offsetOfLocal(long localSecond, ZoneId zone) {
+        if (zone instanceof ZoneOffset) {
+            return ((ZoneOffset) zone).getTotalSeconds();
+        }
+        OffsetWindow window = WINDOWS.get(zone);
+        if (window != null && localSecond >= window.localStart && localSecond < window.localEnd) {
+            return window.offset;
+        }
+        ZoneRules rules = zone.getRules();
+        int offset = rules.getOffset(LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC)).getTotalSeconds();
+        window = OffsetWindow.of(rules, localSecond - offset);
+        if (localSecond >= window.localStart && localSecond < window.localEnd) {
+            WINDOWS.put(zone, window);
+        }
+        return offset;
+    }
+
+    /**
+     * 取得指定时区在时间戳 {@code epochSecond} 时的偏移秒数
+     */
+    static int offsetOfEpoch(long epochSecond, ZoneId zone) {
+        if (zone instanceof ZoneOffset) {
+            return ((ZoneOffset) zone).getTotalSeconds();
+        }
+        OffsetWindow window = WINDOWS.get(zone);
+        if (window == null || epochSecond < window.epochStart || epochSecond >= window.epochEnd) {
+            window = OffsetWindow.of(zone.getRules(), epochSecond);
+            WINDOWS.put(zone, window);
+        }
+        return window.offset;
+    }
+
+    /**
+     * 取得时钟在指定时区中的当前日期，以相对于 1970-01-01 的天数表示
+     */
+    static long today(ZoneId zone) {
+        long now = Math.floorDiv(clock.millis(), 1000L);
+        Today current = today;
+        if (current != null && current.zone.equals(zone) && now >= current.start && now < current.end) {
+            return current.epochDay;
+        }
+        current = Today.of(zone, now);
+        today = current;
+        return current.epochDay;
+    }
+
+    /**
+     * 偏移量不变的时间区间
+     */
+    private static final class OffsetWindow {
+
+        final int offset;
+
+        /**
+         * 时间戳区间 [epochStart, epochEnd)
+         */
+        final long epochStart;
+        final long epochEnd;
+
+        /**
+         * 本地时间区间 [localStart, localEnd)，不包含偏移量变化时的间隙与重叠部分
+         */
+        final long localStart;
+        final long localEnd;
+
+        private OffsetWindow(int offset, long epochStart, long epochEnd, long localStart, long localEnd) {
+            this.offset = offset;
+            this.epochStart = epochStart;
+            this.epochEnd = epochEnd;
+            this.localStart = localStart;
+            this.localEnd = localEnd;
+        }
+
+        static OffsetWindow of(ZoneRules rules, long epochSecond) {
+            int offset = rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+            if (rules.isFixedOffset()) {
+                return new OffsetWindow(offset, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE);
+            }
+            long epochStart = Long.MIN_VALUE;
+            long localStart = Long.MIN_VALUE;
+            ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(epochSecond + 1));
+            if (previous != null) {
+                epochStart = previous.toEpochSecond();
+                localStart = epochStart + Math.max(previous.getOffsetBefore().getTotalSeconds(), offset);
+            }
+            long epochEnd = Long.MAX_VALUE;
+            long localEnd = Long.MAX_VALUE;
+            ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochSecond(epochSecond));
+            if (next != null) {
+                epochEnd = next.toEpochSecond();
+                localEnd = epochEnd + Math.min(next.getOffsetAfter().getTotalSeconds(), offset);
+            }
+            return new OffsetWindow(offset, epochStart, epochEnd, localStart, localEnd);
+        }
+    }
+
+    /**
+     * 缓存的当前日期，在时间戳区间 [start, end) 内有效
+     */
+    private static final class Today {
+
+        final ZoneId zone;
+        final long epochDay;
+        final long start;
+        final long end;
+
+        private Today(ZoneId zone, long epochDay, long start, long end) {
+            this.zone = zone;
+            this.epochDay = epochDay;
+            this.start = start;
+            this.end = end;
+        }
+
+        static Today of(ZoneId zone, long now) {
+            long local = now + offsetOfEpoch(now, zone);
+            long secondOfDay = Math.floorMod(local, 86400L);
+            long start = now - secondOfDay;
+            long end = start + 86400;
+            if (!(zone instanceof ZoneOffset)) {
+                // 当天内偏移量发生变化时，只在当前偏移量区间内有效
+                OffsetWindow window = WINDOWS.get(zone);
+                if (window != null) {
+                    start = Math.max(start, window.epochStart);
+                    end = Math.min(end, window.epochEnd);
+                }
+            }
+            return new Today(zone, Math.floorDiv(local, 86400L), start, end);
+        }
+    }
+
+}
@@ -1,48 +1,222 @@
 package com.cast;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
 
 class ToBooleanConverter implements Converter<Boolean> {
 
-    private static final Set<String> TRUE_VALUES = new HashSet<>();
-    private static final Set<String> FALSE_VALUES = new HashSet<>();
-
-    static {
-        TRUE_VALUES.add("true");
-        TRUE_VALUES.add("on");
-        TRUE_VALUES.add("yes");
-        TRUE_VALUES.add("1");
-
-        FALSE_VALUES.add("false");
-        FALSE_VALUES.add("off");
-        FALSE_VALUES.add("no");
-        FALSE_VALUES.add("0");
-    }
+    /**
+     * 额外注册的表示 true 与 false 的字符串（均为小写），写时复制，读取时无需加锁
+     */
+    private static volatile String[] extraTrueValues = new String[0];
+    private static volatile String[] extraFalseValues = new String[0];
 
     @Override
     public Boolean convert(Object obj) {
         if (obj == null) {
             return null;
         }
+        Boolean result = tryConvert(obj);
+        if (result == null) {
+            if (obj instanceof CharSequence || obj instanceof Character) {
+                String str = obj.toString();
+                if (str.isEmpty()) {
+                    throw new CastException("empty string cannot cast to Boolean");
+                }
+                throw new CastException("the string [" + str + "] cannot cast to Boolean");
+            }
+            throw new CastException(obj.getClass(), Boolean.class);
+        }
+        return result;
+    }
+
+    /**
+     * 尝试将指定对象转换为 {@code Boolean}，无法转换时返回 {@code null}
+     */
+    Boolean tryConvert(Object obj) {
+        int result = matchValue(obj);
+        return result < 0 ? null : result == 1;
+    }
+
+    boolean booleanValue(Object obj, boolean defaultValue) {
+        int result = matchValue(obj);
+        return result < 0 ? defaultValue : result == 1;
+    }
+
+    private static int matchValue(Object obj) {
         if (obj instanceof Boolean) {
-            return (Boolean) obj;
+            return (Boolean) obj ? 1 : 0;
+        }
+        if (obj instanceof CharSequence) {
+            return match((CharSequence) obj);
+        }
+        if (obj instanceof Character) {
+            return match(((Character) obj).charValue());
+        }
+        if (obj instanceof Number) {
+            return matchNumber((Number) obj);
+        }
+        return -1;
+    }
+
+    /**
+     * 0 对应 false，非 0 对应 true，{@code NaN} 无法匹配
+     */
+    private static int matchNumber(Number value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return value.longValue() == 0 ? 0 : 1;
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).signum() == 0 ? 0 : 1;
+        }
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).signum() == 0 ? 0 : 1;
+        }
+        double doubleValue = value.doubleValue();
+        if (doubleValue != doubleValue) {
+            return -1;
+        }
+        return doubleValue == 0 ? 0 : 1;
+    }
+
+    /**
+     * 忽略大小写匹配字符串对应的布尔值，不创建新的字符串
+     *
+     * @return 1 表示 true，0 表示 false，-1 表示无法匹配
+     */
+    static int match(CharSequence value) {
+        int result = matchDefault(value);
+        return result < 0 ? matchExtra(value) : result;
+    }
+
+    private static int matchDefault(CharSequence value) {
+        switch (value.length()) {
+            case 1:
+                return matchDefault(value.charAt(0));
+            case 2:
+                return equalsIgnoreCase(value, "on") ? 1 : equalsIgnoreCase(value, "no") ? 0 : -1;
+            case 3:
+                return equalsIgnoreCase(value, "yes") ? 1 : equalsIgnoreCase(value, "off") ? 0 : -1;
+            case 4:
+                return equalsIgnoreCase(value, "true") ? 1 : -1;
+            case 5:
+                return equalsIgnoreCase(value, "false") ? 0 : -1;
+            default:
+                return -1;
+        }
+    }
+
+    private static int match(char value) {
+        int result = matchDefault(value);
+        if (result >= 0 || extraTrueValues.length == 0 && extraFalseValues.length == 0) {
+            return result;
         }
-        if (obj instanceof CharSequence || obj instanceof Character) {
-            String str = obj.toString();
-            if (str.isEmpty()) {
-                throw new CastException("empty string cannot cast to Boolean");
+        if (contains(extraTrueValues, value)) {
+            return 1;
+        }
+        return contains(extraFalseValues, value) ? 0 : -1;
+    }
+
+    private static int matchDefault(char value) {
+        return value == '1' ? 1 : value == '0' ? 0 : -1;
+    }
+
+    /**
+     * 在额外注册的字符串中查找，只有默认规则无法匹配时才会调用
+     */
+    private static int matchExtra(CharSequence value) {
+        if (extraTrueValues.length == 0 && extraFalseValues.length == 0) {
+            return -1;
+        }
+        if (contains(extraTrueValues, value)) {
+            return 1;
+        }
+        return contains(extraFalseValues, value) ? 0 : -1;
+    }
+
+    private static boolean contains(String[] words, CharSequence value) {
+        for (String word : words) {
+            if (word.length() == value.length() && equalsIgnoreCaseFully(value, word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 在只有一个字符的单词中查找，不创建新的字符串
+     */
+    private static boolean contains(String[] words, char value) {
+        char lowerCase = Character.toLowerCase(value);
+        for (String word : words) {
+            if (word.length() == 1 && word.charAt(0) == lowerCase) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 比较字符串与指定的小写单词是否相同（忽略大小写），支持非 ASCII 字符
+     */
+    private static boolean equalsIgnoreCaseFully(CharSequence value, String lowerCaseWord) {
+        for (int i = 0, len = lowerCaseWord.length(); i < len; i++) {
+            if (Character.toLowerCase(value.charAt(i)) != lowerCaseWord.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 注册额外的字符串值
+     *
+     * @param trueValue {@code true} 表示注册到 true 的取值中，否则注册到 false 的取值中
+     * @param values    要注册的字符串
+     * @throws IllegalArgumentException 字符串为 {@code null} 或空字符串时
+     */
+    static synchronized void register(boolean trueValue, String... values) {
+        String[] words = trueValue ? extraTrueValues : extraFalseValues;
+        for (String value : values) {
+            if (value == null || value.isEmpty()) {
+                throw new IllegalArgumentException("boolean value must not be empty");
             }
-            str = str.toLowerCase();
-            if (TRUE_VALUES.contains(str)) {
-                return Boolean.TRUE;
+            if (matchDefault(value) >= 0 || contains(words, value)) {
+                continue;
             }
-            if (FALSE_VALUES.contains(str)) {
-                return Boolean.FALSE;
+            char[] chars = value.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = Character.toLowerCase(chars[i]);
+            }
+            words = Arrays.copyOf(words, words.length + 1);
+            words[words.length - 1] = new String(chars);
+        }
+        if (trueValue) {
+            extraTrueValues = words;
+        } else {
+            extraFalseValues = words;
+        }
+    }
+
+    /**
+     * 清除所有额外注册的字符串值，仅用于测试
+     */
+    static synchronized void reset() {
+        extraTrueValues = new String[0];
+        extraFalseValues = new String[0];
+    }
+
+    /**
+     * 比较字符串与指定的小写 ASCII 字母单词是否相同（忽略大小写）
+     */
+    private static boolean equalsIgnoreCase(CharSequence value, String lowerCaseWord) {
+        for (int i = 0, len = lowerCaseWord.length(); i < len; i++) {
+            if ((value.charAt(i) | 0x20) != lowerCaseWord.charAt(i)) {
+                return false;
             }
-            throw new CastException("the string [" + str + "] cannot cast to Boolean");
         }
-        throw new CastException(obj.getClass(), Boolean.class);
+        return true;
     }
 
 }
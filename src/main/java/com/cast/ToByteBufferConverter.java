@@ -0,0 +1,154 @@
+package com.cast;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Blob;
+import java.sql.SQLException;
+
+/**
+ * 将对象转换为 {@code ByteBuffer}，尽量返回视图而不复制数据
+ * <ul>
+ *     <li>{@code byte[]} 及 {@code ByteBuffer} 返回共享数据的只读视图</li>
+ *     <li>{@code Path}、{@code File}、{@code FileChannel} 通过 {@link FileChannel#map} 映射到内存，不会读入堆中</li>
+ *     <li>其他类型按 {@link ToBytesArrayConverter} 的规则转换为字节数组后包装</li>
+ * </ul>
+ *
+ * @author Jon
+ */
+class ToByteBufferConverter implements Converter<ByteBuffer> {
+
+    @Override
+    public ByteBuffer convert(Object obj) {
+        return convert(obj, false);
+    }
+
+    /**
+     * 将对象转换为 {@code ByteBuffer}
+     *
+     * @param obj    要转换的对象
+     * @param direct 是否需要直接（堆外）缓冲区，为 {@code true} 时堆中的数据会被复制到直接缓冲区中，
+     *               {@code Blob} 按其长度直接读入直接缓冲区，不经过堆中的字节数组
+     * @throws CastException 无法转换或读取数据失败时
+     */
+    ByteBuffer convert(Object obj, boolean direct) {
+        if (obj == null) {
+            return null;
+        }
+        if (obj instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) obj;
+            // asReadOnlyBuffer 返回的缓冲区总是大端字节序，需要保留原来的字节序
+            return direct && !buffer.isDirect() ? copyToDirect(buffer) : buffer.asReadOnlyBuffer().order(buffer.order());
+        }
+        if (obj instanceof byte[]) {
+            ByteBuffer buffer = ByteBuffer.wrap((byte[]) obj);
+            return direct ? copyToDirect(buffer) : buffer.asReadOnlyBuffer();
+        }
+        if (obj instanceof Path) {
+            return map((Path) obj);
+        }
+        if (obj instanceof File) {
+            return map(((File) obj).toPath());
+        }
+        if (obj instanceof FileChannel) {
+            try {
+                FileChannel channel = (FileChannel) obj;
+                return map(channel, channel.position());
+            } catch (IOException e) {
+                throw new CastException(e);
+            }
+        }
+        if (direct && obj instanceof Blob) {
+            return readBlob((Blob) obj);
+        }
+        byte[] bytes = Converter.TO_BYTES_ARRAY_CONVERTER.convert(obj);
+        return direct ? copyToDirect(ByteBuffer.wrap(bytes)) : ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * 将对象转换为 {@code ByteBuffer}，{@code Blob} 及 {@code InputStream} 超过阈值的部分写入临时文件后映射到内存，
+     * 堆中最多只保留阈值大小的数据，其他类型与 {@link #convert(Object)} 一致
+     *
+     * @param obj            要转换的对象
+     * @param spillThreshold 保留在堆中的最大字节数
+     * @throws CastException            无法转换、读取数据失败或者数据超过 {@link Integer#MAX_VALUE} 个字节时
+     * @throws IllegalArgumentException 阈值为负数时
+     */
+    ByteBuffer convert(Object obj, long spillThreshold) {
+        LobSpiller.checkThreshold(spillThreshold);
+        if (obj instanceof Blob) {
+            Blob blob = (Blob) obj;
+            try (InputStream in = blob.getBinaryStream()) {
+                return LobSpiller.readBytes(in, blob.length(), spillThreshold);
+            } catch (SQLException | IOException e) {
+                throw new CastException(e);
+            }
+        }
+        if (obj instanceof InputStream) {
+            try (InputStream in = (InputStream) obj) {
+                return LobSpiller.readBytes(in, ByteStreamReader.lengthOf(in), spillThreshold);
+            } catch (IOException e) {
+                throw new CastException(e);
+            }
+        }
+        return convert(obj);
+    }
+
+    private static ByteBuffer map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 映射在通道关闭后仍然有效
+            return map(channel, 0);
+        } catch (IOException e) {
+            throw new CastException(e);
+        }
+    }
+
+    /**
+     * 以只读的方式映射通道中从 {@code position} 开始的剩余部分
+     */
+    private static ByteBuffer map(FileChannel channel, long position) throws IOException {
+        long size = Math.max(channel.size() - position, 0);
+        if (size > Integer.MAX_VALUE) {
+            throw new CastException("the file is too large to map into a single ByteBuffer: " + size + " bytes");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+    }
+
+    private static ByteBuffer readBlob(Blob blob) {
+        try (InputStream in = blob.getBinaryStream(); ReadableByteChannel channel = Channels.newChannel(in)) {
+            long length = blob.length();
+            if (length > Integer.MAX_VALUE) {
+                throw new CastException("the blob is too large to read into a single ByteBuffer: " + length + " bytes");
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) == -1) {
+                    break;
+                }
+            }
+            // 通过 Buffer 调用，Java 8 的 ByteBuffer 没有返回 ByteBuffer 的 flip 方法
+            ((Buffer) buffer).flip();
+            return buffer;
+        } catch (SQLException | IOException e) {
+            throw new CastException(e);
+        }
+    }
+
+    /**
+     * 将缓冲区中剩余的字节复制到新的直接缓冲区中，不会修改原缓冲区的位置，保留原缓冲区的字节序
+     */
+    private static ByteBuffer copyToDirect(ByteBuffer source) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(source.remaining()).order(source.order());
+        buffer.put(source.duplicate());
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+}
@@ -1,29 +1,74 @@
 package com.cast;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
 import java.sql.Blob;
 
 class ToBytesArrayConverter implements Converter<byte[]> {
 
     @Override
     public byte[] convert(Object obj) {
+        return convert(obj, ByteStreamReader.UNLIMITED);
+    }
+
+    /**
+     * 将对象转换为字节数组，结果超过 {@code maxSize} 时失败
+     * <p>{@code InputStream} 及 {@code Blob} 在读取的过程中检查大小，超出上限时立即失败，不会把剩余的数据读入内存</p>
+     *
+     * @param obj     要转换的对象
+     * @param maxSize 字节数组长度的上限
+     * @throws CastException 无法转换、读取失败或超出上限时
+     */
+    byte[] convert(Object obj, long maxSize) {
+        byte[] result = toBytes(obj, maxSize);
+        if (result != null && result.length > maxSize) {
+            throw new CastException("the value exceeds the maximum size of " + maxSize + " bytes");
+        }
+        return result;
+    }
+
+    /**
+     * 将对象转换为字节数组，{@code CharSequence} 及 {@code char[]} 按指定的字符集直接编码，其他类型与 {@link #convert(Object)} 一致
+     *
+     * @throws CastException 无法转换或读取失败时
+     */
+    byte[] convert(Object obj, Charset charset) {
+        if (obj instanceof CharSequence) {
+            return StringEncoder.encode((CharSequence) obj, charset);
+        }
+        if (obj instanceof char[]) {
+            return StringEncoder.encode(CharBuffer.wrap((char[]) obj), charset);
+        }
+        return convert(obj);
+    }
+
+    private static byte[] toBytes(Object obj, long maxSize) {
         if (obj == null) {
             return null;
         }
         if (obj instanceof byte[]) {
             return (byte[]) obj;
         }
+        if (obj instanceof ByteBuffer) {
+            // 复制剩余的字节，不修改缓冲区的位置
+            ByteBuffer buffer = ((ByteBuffer) obj).duplicate();
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        }
         if (obj instanceof CharSequence) {
-            return obj.toString().getBytes();
+            return StringEncoder.encode((CharSequence) obj, Charset.defaultCharset());
         }
         if (obj instanceof Number) {
             return Utils.numberToBytes((Number) obj);
         }
         if (obj instanceof InputStream) {
-            return Utils.getBytesFromInputStream((InputStream) obj);
+            return ByteStreamReader.read((InputStream) obj, maxSize);
         }
         if (obj instanceof Blob) {
-            return Utils.blobToBytesArray((Blob) obj);
+            return Utils.blobToBytesArray((Blob) obj, maxSize);
         }
         throw new CastException(obj.getClass(), byte[].class);
     }
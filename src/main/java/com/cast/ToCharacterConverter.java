@@ -7,23 +7,48 @@ class ToCharacterConverter implements Converter<Character> {
         if (obj == null) {
             return null;
         }
+        Character result = tryConvert(obj);
+        if (result == null) {
+            if (obj instanceof CharSequence) {
+                if (((CharSequence) obj).length() == 0) {
+                    throw new CastException("empty string cannot cast to Character");
+                }
+                throw new CastException("the string length greater than 1, cannot cast to Character");
+            }
+            throw new CastException(obj.getClass(), Character.class);
+        }
+        return result;
+    }
+
+    /**
+     * 尝试将指定对象转换为 {@code Character}，无法转换时返回 {@code null}
+     */
+    Character tryConvert(Object obj) {
         if (obj instanceof Character) {
             return (Character) obj;
         }
         if (obj instanceof CharSequence) {
-            String val = obj.toString();
-            if (val.isEmpty()) {
-                throw new CastException("empty string cannot cast to Character");
-            }
-            if (val.length() > 1) {
-                throw new CastException("the string length greater than 1, cannot cast to Character");
-            }
-            return val.charAt(0);
+            CharSequence value = (CharSequence) obj;
+            return value.length() == 1 ? value.charAt(0) : null;
+        }
+        if (obj instanceof Number) {
+            return (char) ((Number) obj).shortValue();
+        }
+        return null;
+    }
+
+    char charValue(Object obj, char defaultValue) {
+        if (obj instanceof Character) {
+            return (Character) obj;
+        }
+        if (obj instanceof CharSequence) {
+            CharSequence value = (CharSequence) obj;
+            return value.length() == 1 ? value.charAt(0) : defaultValue;
         }
         if (obj instanceof Number) {
             return (char) ((Number) obj).shortValue();
         }
-        throw new CastException(obj.getClass(), Character.class);
+        return defaultValue;
     }
 
 }
@@ -2,73 +2,280 @@ package com.cast;
 
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
+import java.time.ZoneId;
 import java.time.temporal.TemporalAccessor;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.TimeZone;
 
 class ToDateConverter extends ConditionConverter<Date> {
 
-    private String format;
+    /**
+     * 表示无法转换的毫秒时间戳
+     */
+    private static final long INVALID = Long.MIN_VALUE;
 
-    ToDateConverter() {
+    @Override
+    public Date convert(Object obj) {
+        if (obj == null) {
+            return null;
+        }
+        Date result = tryConvert(obj);
+        if (result == null) {
+            throw new CastException(obj.getClass(), Date.class);
+        }
+        return result;
+    }
 
+    /**
+     * 按指定的格式将对象转换为 {@code Date}，规则与 {@link #tryConvert(Object, String)} 一致
+     *
+     * @throws CastException 无法转换时
+     */
+    Date convert(Object obj, String format) {
+        if (obj == null) {
+            return null;
+        }
+        Date result = tryConvert(obj, format);
+        if (result == null) {
+            throw new CastException(obj.getClass(), Date.class);
+        }
+        return result;
     }
 
-    ToDateConverter(String format) {
-        this.format = format;
+    /**
+     * 尝试将指定对象转换为 {@code Date}，无法转换时返回 {@code null}
+     */
+    Date tryConvert(Object obj) {
+        return tryConvert(obj, (String) null);
     }
 
-    @Override
-    public Date convert(Object obj) {
+    /**
+     * 尝试按指定的格式将对象转换为 {@code Date}，无法转换时返回 {@code null}
+     * <p>指定了格式时，字符串通过 {@link DateFormatCache} 中缓存的 {@code DateTimeFormatter} 解析，不会重复编译格式</p>
+     *
+     * @param obj    要转换的对象
+     * @param format 字符串的格式，为空时使用默认格式
+     * @throws CastException 格式字符串不合法时
+     */
+    Date tryConvert(Object obj, String format) {
         if (obj == null) {
             return null;
         }
         if (obj instanceof Date) {
             return (Date) obj;
         }
+        long millis = toEpochMillis(obj, format);
+        return millis == INVALID ? null : new Date(millis);
+    }
+
+    /**
+     * 将指定对象转换为毫秒时间戳，规则与 {@link #tryConvert(Object, String)} 一致
+     * <p>对于 {@code Number}、{@code Date}、{@code Calendar}、{@code Instant} 及 ISO-8601 字符串，转换过程不会创建任何对象；
+     * 其他字符串按本地化的默认格式解析，解析器按线程复用</p>
+     *
+     * @param obj          要转换的对象
+     * @param format       字符串的格式，为空时使用默认格式
+     * @param defaultValue 无法转换时返回的默认值
+     * @throws CastException 格式字符串不合法时
+     */
+    long epochMillis(Object obj, String format, long defaultValue) {
+        long millis = toEpochMillis(obj, format);
+        return millis == INVALID ? defaultValue : millis;
+    }
+
+    /**
+     * 将指定对象转换为纳秒时间戳，规则与 {@link #tryConvert(Object)} 一致，{@code Timestamp}、{@code Instant}
+     * 及 ISO-8601 字符串保留纳秒精度
+     *
+     * @param obj          要转换的对象
+     * @param defaultValue 无法转换或超出 {@code long} 能表示的范围（约 1677 年至 2262 年）时返回的默认值
+     */
+    long epochNanos(Object obj, long defaultValue) {
+        long second;
+        int nano;
+        IsoDateTimeParser parser = IsoDateTimeParser.get();
+        if (obj instanceof Timestamp) {
+            second = Math.floorDiv(((Timestamp) obj).getTime(), 1000L);
+            nano = ((Timestamp) obj).getNanos();
+        } else if (obj instanceof CharSequence
+            && parser.parse((CharSequence) obj, 0, ((CharSequence) obj).length(), null)) {
+            second = parser.epochSecond();
+            nano = parser.nano();
+        } else if (obj instanceof TemporalAccessor) {
+            Instant instant = obj instanceof Instant ? (Instant) obj : Utils.toInstant((TemporalAccessor) obj);
+            if (instant == null) {
+                return defaultValue;
+            }
+            second = instant.getEpochSecond();
+            nano = instant.getNano();
+        } else {
+            long millis = toEpochMillis(obj, null);
+            if (millis == INVALID) {
+                return defaultValue;
+            }
+            second = Math.floorDiv(millis, 1000L);
+            nano = (int) Math.floorMod(millis, 1000L) * 1000_000;
+        }
+        if (second < Long.MIN_VALUE / 1000_000_000 || second > Long.MAX_VALUE / 1000_000_000 - 1) {
+            return defaultValue;
+        }
+        return second * 1000_000_000 + nano;
+    }
+
+    /**
+     * 将指定对象转换为毫秒时间戳
+     *
+     * @return 毫秒时间戳，无法转换时返回 {@link #INVALID}
+     */
+    private static long toEpochMillis(Object obj, String format) {
+        if (obj instanceof Date) {
+            return ((Date) obj).getTime();
+        }
         if (obj instanceof Calendar) {
-            return ((Calendar) obj).getTime();
+            return ((Calendar) obj).getTimeInMillis();
+        }
+        if (obj instanceof Number) {
+            return ((Number) obj).longValue();
         }
         if (obj instanceof CharSequence) {
-            try {
-                return Utils.isEmpty(format) ? new SimpleDateFormat().parse(obj.toString())
-                    : new SimpleDateFormat(format).parse(obj.toString());
-            } catch (Exception e) {
-                throw new CastException(obj.getClass(), Date.class, e);
+            CharSequence value = (CharSequence) obj;
+            if (!Utils.isEmpty(format)) {
+                return DateFormatCache.parse(format, value);
             }
-        }
-        if (obj instanceof Number) {
-            return new Date(((Number) obj).longValue());
+            IsoDateTimeParser parser = IsoDateTimeParser.get();
+            if (parser.parse(value, 0, value.length(), null)) {
+                return parser.toEpochMilli();
+            }
+            return LegacyFormat.get().parse(value);
         }
         if (obj instanceof TemporalAccessor) {
-            Instant instant = Utils.toInstant((TemporalAccessor) obj);
-            return new Date(instant.toEpochMilli());
+            Instant instant = obj instanceof Instant ? (Instant) obj : Utils.toInstant((TemporalAccessor) obj);
+            if (instant == null || instant.getEpochSecond() < Long.MIN_VALUE / 1000
+                || instant.getEpochSecond() > Long.MAX_VALUE / 1000 - 1) {
+                return INVALID;
+            }
+            return instant.getEpochSecond() * 1000 + instant.getNano() / 1000_000;
         }
-        throw new CastException(obj.getClass(), Date.class);
+        return INVALID;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T extends Date> T convert(Object obj, Class<T> targetClass) {
-        Date date = convert(obj);
-        if (date == null) {
+        if (obj == null) {
+            return null;
+        }
+        T result = tryConvert(obj, targetClass);
+        if (result == null) {
+            throw new CastException(obj.getClass(), targetClass);
+        }
+        return result;
+    }
+
+    /**
+     * 按指定的格式将对象转换为目标类型，规则与 {@link #tryConvert(Object, String, Class)} 一致
+     *
+     * @throws CastException 无法转换时
+     */
+    <T extends Date> T convert(Object obj, String format, Class<T> targetClass) {
+        if (obj == null) {
+            return null;
+        }
+        T result = tryConvert(obj, format, targetClass);
+        if (result == null) {
+            throw new CastException(obj.getClass(), targetClass);
+        }
+        return result;
+    }
+
+    @Override
+    public <T extends Date> T tryConvert(Object obj, Class<T> targetClass) {
+        return tryConvert(obj, (String) null, targetClass);
+    }
+
+    /**
+     * 尝试按指定的格式将对象转换为目标类型，无法转换时返回 {@code null}
+     *
+     * @see #tryConvert(Object, String)
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Date> T tryConvert(Object obj, String format, Class<T> targetClass) {
+        if (obj == null) {
+            return null;
+        }
+        if (targetClass.isInstance(obj)) {
+            return (T) obj;
+        }
+        if (targetClass == Timestamp.class && obj instanceof TemporalAccessor) {
+            // 直接由 Instant 构造，保留纳秒精度
+            Instant instant = Converter.TO_TEMPORAL_CONVERTER.tryConvert(obj, Instant.class);
+            return instant == null ? null : (T) Timestamp.from(instant);
+        }
+        if (targetClass == Timestamp.class && obj instanceof CharSequence && Utils.isEmpty(format)) {
+            // 保留 ISO-8601 字符串中毫秒以下的精度
+            CharSequence value = (CharSequence) obj;
+            IsoDateTimeParser parser = IsoDateTimeParser.get();
+            if (parser.parse(value, 0, value.length(), null)) {
+                Timestamp timestamp = new Timestamp(parser.epochSecond() * 1000);
+                timestamp.setNanos(parser.nano());
+                return (T) timestamp;
+            }
+        }
+        long millis = toEpochMillis(obj, format);
+        if (millis == INVALID) {
             return null;
         }
         if (targetClass == Date.class) {
-            return (T) date;
+            return (T) new Date(millis);
         }
         if (targetClass == java.sql.Date.class) {
-            return (T) new java.sql.Date(date.getTime());
+            return (T) new java.sql.Date(millis);
         }
         if (targetClass == Timestamp.class) {
-            return (T) new Timestamp(date.getTime());
+            return (T) new Timestamp(millis);
         }
         if (targetClass == Time.class) {
-            return (T) new Time(date.getTime());
+            return (T) new Time(millis);
+        }
+        return null;
+    }
+
+    /**
+     * 兼容本地化的默认格式的解析器，{@code SimpleDateFormat} 不是线程安全的，每个线程复用一个实例
+     * <p>时区与 {@link TimeContext#zone()} 不同时才重新设置</p>
+     */
+    private static final class LegacyFormat {
+
+        private static final ThreadLocal<LegacyFormat> FORMATS = ThreadLocal.withInitial(LegacyFormat::new);
+
+        private final SimpleDateFormat dateFormat = new SimpleDateFormat();
+
+        private final ParsePosition position = new ParsePosition(0);
+
+        private ZoneId zone;
+
+        static LegacyFormat get() {
+            return FORMATS.get();
         }
-        throw new CastException(obj.getClass(), targetClass);
+
+        /**
+         * 使用 ParsePosition 解析，失败时返回 {@link #INVALID} 而不会抛出 ParseException
+         */
+        long parse(CharSequence value) {
+            ZoneId current = TimeContext.zone();
+            if (!current.equals(zone)) {
+                dateFormat.setTimeZone(TimeZone.getTimeZone(current));
+                zone = current;
+            }
+            position.setIndex(0);
+            position.setErrorIndex(-1);
+            Date date = dateFormat.parse(value.toString(), position);
+            return date == null ? INVALID : date.getTime();
+        }
+
     }
 
 }
@@ -7,7 +7,6 @@ class ToEnumConverter extends ConditionConverter<Enum> {
         throw new CastException("");
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T extends Enum> T convert(Object obj, Class<T> targetClass) {
         if (obj == null) {
@@ -16,21 +15,52 @@ class ToEnumConverter extends ConditionConverter<Enum> {
         if(targetClass == null) {
             throw new CastException("the target class is null");
         }
-        if (obj.getClass() == targetClass) {
+        T result = tryConvert(obj, targetClass);
+        if (result == null) {
+            if (obj instanceof CharSequence) {
+                String str = obj.toString().trim();
+                if (str.isEmpty()) {
+                    throw new CastException("empty string cannot cast to " + targetClass);
+                }
+                throw new CastException("the string [" + str + "] cannot cast to " + targetClass);
+            }
+            throw new CastException(obj.getClass(), targetClass);
+        }
+        return result;
+    }
+
+    /**
+     * 尝试将指定对象转换为枚举，无法转换时返回 {@code null}，不会抛出异常
+     * <ul>
+     *     <li>字符串去掉前后的空白字符后，先精确匹配常量名称及 {@link EnumAlias} 指定的别名，再忽略大小写匹配</li>
+     *     <li>整数按序数转换</li>
+     * </ul>
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Enum> T tryConvert(Object obj, Class<T> targetClass) {
+        if (obj == null || targetClass == null) {
+            return null;
+        }
+        if (targetClass.isInstance(obj)) {
             return (T) obj;
         }
         if (obj instanceof CharSequence) {
-            String str = obj.toString().trim();
-            if (str.isEmpty()) {
-                throw new CastException("empty string cannot cast to " + targetClass);
+            CharSequence value = (CharSequence) obj;
+            int start = 0;
+            int end = value.length();
+            while (start < end && value.charAt(start) <= ' ') {
+                start++;
             }
-            try {
-                return (T) Enum.valueOf(targetClass, str);
-            } catch (Exception e) {
-                throw new CastException(obj.getClass(), targetClass, e);
+            while (end > start && value.charAt(end - 1) <= ' ') {
+                end--;
             }
+            return (T) EnumTable.of(targetClass).find(value, start, end);
+        }
+        if (obj instanceof Number) {
+            return (T) EnumTable.of(targetClass).ordinal((Number) obj);
         }
-        throw new CastException(obj.getClass(), targetClass);
+        return null;
     }
 
 }
@@ -1,9 +1,28 @@
 package com.cast;
 
+import java.nio.ByteBuffer;
+
 class ToNumberConverter extends ConditionConverter<Number> {
 
     @Override
     public Number convert(Object obj) {
+        if (obj == null) {
+            return null;
+        }
+        Number result = tryConvert(obj);
+        if (result == null) {
+            if (obj instanceof CharSequence) {
+                throw new CastException("the value [" + obj + "] cannot cast to number");
+            }
+            throw new CastException(obj.getClass(), Number.class);
+        }
+        return result;
+    }
+
+    /**
+     * 尝试将指定对象转换为数字，无法转换时返回 {@code null}
+     */
+    Number tryConvert(Object obj) {
         if (obj == null) {
             return null;
         }
@@ -14,21 +33,34 @@ class ToNumberConverter extends ConditionConverter<Number> {
             return (short) ((Character) obj).charValue();
         }
         if (obj instanceof CharSequence) {
-            String str = obj.toString();
-            try {
-                return Double.valueOf(str);
-            } catch (Exception e) {
-                throw new CastException("the value [" + str + "] cannot cast to number", e);
-            }
+            return Utils.stringToTargetNumber((CharSequence) obj, Double.class);
+        }
+        if (obj instanceof ByteBuffer) {
+            return Utils.bytesToTargetNumber((ByteBuffer) obj, Double.class);
         }
         if (Utils.isEnum(obj)) {
             return ((Enum) obj).ordinal();
         }
-        throw new CastException(obj.getClass(), Number.class);
+        return null;
     }
 
     @Override
     public <T extends Number> T convert(Object obj, Class<T> targetClass) {
+        if (obj == null) {
+            return null;
+        }
+        T result = tryConvert(obj, targetClass);
+        if (result == null) {
+            if (obj instanceof CharSequence) {
+                throw new CastException("the value [" + obj + "] cannot cast to " + targetClass);
+            }
+            throw new CastException(obj.getClass(), targetClass);
+        }
+        return result;
+    }
+
+    @Override
+    public <T extends Number> T tryConvert(Object obj, Class<T> targetClass) {
         if (obj == null) {
             return null;
         }
@@ -36,7 +68,10 @@ class ToNumberConverter extends ConditionConverter<Number> {
             return Utils.numberToTarget((Number) obj, targetClass);
         }
         if (obj instanceof CharSequence) {
-            return Utils.stringToTargetNumber(obj.toString(), targetClass);
+            return Utils.stringToTargetNumber((CharSequence) obj, targetClass);
+        }
+        if (obj instanceof ByteBuffer) {
+            return Utils.bytesToTargetNumber((ByteBuffer) obj, targetClass);
         }
         if (obj instanceof Character) {
             return Utils.numberToTarget((short) ((Character) obj).charValue(), targetClass);
@@ -44,7 +79,178 @@ class ToNumberConverter extends ConditionConverter<Number> {
         if (Utils.isEnum(obj)) {
             return Utils.numberToTarget(((Enum) obj).ordinal(), targetClass);
         }
-        throw new CastException(obj.getClass(), targetClass);
+        return null;
+    }
+
+    byte byteValue(Object obj, byte defaultValue) {
+        if (obj instanceof Number) {
+            return ((Number) obj).byteValue();
+        }
+        long value = longValue(obj, Long.MIN_VALUE);
+        return value < Byte.MIN_VALUE || value > Byte.MAX_VALUE ? defaultValue : (byte) value;
+    }
+
+    short shortValue(Object obj, short defaultValue) {
+        if (obj instanceof Number) {
+            return ((Number) obj).shortValue();
+        }
+        long value = longValue(obj, Long.MIN_VALUE);
+        return value < Short.MIN_VALUE || value > Short.MAX_VALUE ? defaultValue : (short) value;
+    }
+
+    int intValue(Object obj, int defaultValue) {
+        if (obj instanceof Number) {
+            return ((Number) obj).intValue();
+        }
+        long value = longValue(obj, Long.MIN_VALUE);
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? defaultValue : (int) value;
+    }
+
+    long longValue(Object obj, long defaultValue) {
+        if (obj instanceof Number) {
+            return ((Number) obj).longValue();
+        }
+        if (obj instanceof CharSequence) {
+            return NumberParser.parseLong((CharSequence) obj, defaultValue);
+        }
+        if (obj instanceof ByteBuffer) {
+            return AsciiNumberParser.parseLong((ByteBuffer) obj, defaultValue);
+        }
+        if (obj instanceof Character) {
+            return (short) ((Character) obj).charValue();
+        }
+        if (obj instanceof Enum) {
+            return ((Enum) obj).ordinal();
+        }
+        return defaultValue;
+    }
+
+    float floatValue(Object obj, float defaultValue) {
+        if (obj instanceof Number) {
+            return ((Number) obj).floatValue();
+        }
+        if (obj instanceof CharSequence) {
+            return NumberParser.parseFloat((CharSequence) obj, defaultValue);
+        }
+        if (obj instanceof ByteBuffer) {
+            return (float) AsciiNumberParser.parseDouble((ByteBuffer) obj, true, defaultValue);
+        }
+        if (obj instanceof Character) {
+            return (short) ((Character) obj).charValue();
+        }
+        if (obj instanceof Enum) {
+            return ((Enum) obj).ordinal();
+        }
+        return defaultValue;
+    }
+
+    double doubleValue(Object obj, double defaultValue) {
+        if (obj instanceof Number) {
+            return ((Number) obj).doubleValue();
+        }
+        if (obj instanceof CharSequence) {
+            return NumberParser.parseDouble((CharSequence) obj, defaultValue);
+        }
+        if (obj instanceof ByteBuffer) {
+            return AsciiNumberParser.parseDouble((ByteBuffer) obj, false, defaultValue);
+        }
+        if (obj instanceof Character) {
+            return (short) ((Character) obj).charValue();
+        }
+        if (obj instanceof Enum) {
+            return ((Enum) obj).ordinal();
+        }
+        return defaultValue;
+    }
+
+    /**
+     * 严格模式下将指定对象转换为 {@code [min, max]} 范围内的整数，包含小数部分、超出范围或无法解析时返回默认值
+     */
+    long exactValue(Object obj, long min, long max, long defaultValue) {
+        long value;
+        if (obj instanceof Number) {
+            Number number = (Number) obj;
+            if (!Utils.isLongValueExact(number)) {
+                return defaultValue;
+            }
+            value = number.longValue();
+        } else if (obj instanceof Character) {
+            value = ((Character) obj).charValue();
+        } else {
+            // 字符串只接受整数形式，与宽松模式一致；以两个不同的默认值解析以区分解析失败
+            value = longValue(obj, Long.MIN_VALUE);
+            if (value == Long.MIN_VALUE && longValue(obj, Long.MAX_VALUE) == Long.MAX_VALUE) {
+                return defaultValue;
+            }
+        }
+        return value < min || value > max ? defaultValue : value;
+    }
+
+    /**
+     * 严格模式下将指定对象转换为 {@code [min, max]} 范围内的整数，规则与 {@link #exactValue(Object, long, long, long)} 一致
+     *
+     * @throws CastException 不能无损地完成转换时
+     */
+    long exactValue(Object obj, long min, long max, Class<?> targetClass) {
+        long value = exactValue(obj, min, max, Long.MIN_VALUE);
+        if (value == Long.MIN_VALUE && (min > Long.MIN_VALUE || exactValue(obj, min, max, Long.MAX_VALUE) == Long.MAX_VALUE)) {
+            if (obj == null) {
+                throw new CastException("null cannot cast to " + targetClass);
+            }
+            throw new CastException("the value [" + obj + "] cannot cast to " + targetClass + " exactly");
+        }
+        return value;
+    }
+
+    long longValue(CharSequence value, int start, int end, long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        Utils.checkRange(value.length(), start, end);
+        return NumberParser.parseLong(value, start, end, defaultValue);
+    }
+
+    long longValue(char[] value, int start, int end, long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        Utils.checkRange(value.length, start, end);
+        return NumberParser.parseLong(value, start, end, defaultValue);
+    }
+
+    double doubleValue(CharSequence value, int start, int end, double defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        Utils.checkRange(value.length(), start, end);
+        return NumberParser.parseDouble(value, start, end, defaultValue);
+    }
+
+    /**
+     * 尝试将字符串中 {@code [start, end)} 范围内的字符转换为目标数字类型，无法转换时返回 {@code null}
+     */
+    <T extends Number> T tryConvert(CharSequence value, int start, int end, Class<T> targetClass) {
+        if (value == null) {
+            return null;
+        }
+        Utils.checkRange(value.length(), start, end);
+        return Utils.stringToTargetNumber(value, start, end, targetClass);
+    }
+
+    long longValue(byte[] value, int start, int end, long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        Utils.checkRange(value.length, start, end);
+        return AsciiNumberParser.parseLong(value, start, end, defaultValue);
+    }
+
+    double doubleValue(byte[] value, int start, int end, double defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        Utils.checkRange(value.length, start, end);
+        return AsciiNumberParser.parseDouble(value, start, end, false, defaultValue);
     }
 
 }
@@ -1,10 +1,28 @@
 package com.cast;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.CharBuffer;
 import java.sql.Clob;
-import java.util.Collection;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Date;
 
 class ToStringConverter implements Converter<String> {
 
+    /**
+     * 分块写入时每次复制的字符数
+     */
+    private static final int CHUNK_SIZE = 8192;
+
     @Override
     public String convert(Object obj) {
         if (obj == null) {
@@ -13,11 +31,8 @@ class ToStringConverter implements Converter<String> {
         if (obj instanceof CharSequence) {
             return obj.toString();
         }
-        if (Utils.isArray(obj)) {
-            return Utils.arrayToString(obj);
-        }
-        if (obj instanceof Collection) {
-            return Utils.collectionToString((Collection) obj);
+        if (Joiner.isJoinable(obj)) {
+            return Joiner.join(obj, Joiner.DELIMITER);
         }
         if (obj instanceof Clob) {
             return Utils.clobToString((Clob) obj);
@@ -25,7 +40,280 @@ class ToStringConverter implements Converter<String> {
         if (Utils.isEnum(obj)) {
             return ((Enum) obj).name();
         }
+        if (obj instanceof Date || obj instanceof Calendar) {
+            StringBuilder builder = new StringBuilder(32);
+            appendDateTime(builder, obj);
+            return builder.toString();
+        }
         return obj.toString();
     }
 
+    /**
+     * 按指定的格式将日期时间转换为字符串，格式为空或对象不是日期时间时，与 {@link #convert(Object)} 一致
+     * <p>{@code Date}、{@code Calendar}、{@code Instant} 按所在的时区转换为 {@code ZonedDateTime} 后格式化，
+     * 格式通过 {@link DateFormatCache} 缓存，不会重复编译</p>
+     *
+     * @param obj    要转换的对象
+     * @param format 日期格式，规则见 {@link java.time.format.DateTimeFormatter#ofPattern(String)}
+     * @throws CastException                  格式字符串不合法时
+     * @throws java.time.DateTimeException 对象中没有格式需要的字段时
+     */
+    String convert(Object obj, String format) {
+        if (obj == null) {
+            return null;
+        }
+        if (Utils.isEmpty(format)) {
+            return convert(obj);
+        }
+        TemporalAccessor temporal = toTemporal(obj);
+        if (temporal == null) {
+            return convert(obj);
+        }
+        StringBuilder builder = new StringBuilder(format.length() + 16);
+        DateFormatCache.get(format).formatTo(temporal, builder);
+        return builder.toString();
+    }
+
+    /**
+     * 将数组或集合中的元素用指定的分隔符连接为字符串，其他对象与 {@link #convert(Object)} 一致
+     *
+     * @param obj       要转换的对象
+     * @param delimiter 分隔符，为 {@code null} 时使用 {@link Joiner#DELIMITER}
+     */
+    String join(Object obj, CharSequence delimiter) {
+        if (Joiner.isJoinable(obj)) {
+            return Joiner.join(obj, delimiter);
+        }
+        return convert(obj);
+    }
+
+    /**
+     * 将对象转换为 {@code CharSequence}，{@code Clob} 及 {@code Reader} 超过阈值的部分以 UTF-16 的形式写入临时文件后映射到内存，
+     * 返回只读的 {@code CharBuffer}，堆中最多只保留阈值大小的数据；{@code CharSequence} 直接返回，其他类型与 {@link #convert(Object)} 一致
+     *
+     * @param obj            要转换的对象
+     * @param spillThreshold 保留在堆中的最大字符数
+     * @throws CastException            无法转换、读取数据失败或者数据超过 {@link Integer#MAX_VALUE} 个字节时
+     * @throws IllegalArgumentException 阈值为负数时
+     */
+    CharSequence toCharSequence(Object obj, long spillThreshold) {
+        LobSpiller.checkThreshold(spillThreshold);
+        if (obj instanceof CharSequence) {
+            return (CharSequence) obj;
+        }
+        if (obj instanceof Clob) {
+            Clob clob = (Clob) obj;
+            try (Reader reader = clob.getCharacterStream()) {
+                return LobSpiller.readChars(reader, clob.length(), spillThreshold);
+            } catch (SQLException | IOException e) {
+                throw new CastException(e);
+            }
+        }
+        if (obj instanceof Reader) {
+            try (Reader reader = (Reader) obj) {
+                return LobSpiller.readChars(reader, ByteStreamReader.UNKNOWN_LENGTH, spillThreshold);
+            } catch (IOException e) {
+                throw new CastException(e);
+            }
+        }
+        return convert(obj);
+    }
+
+    /**
+     * 将对象转换后直接写入指定的 {@code StringBuilder}，结果与 {@link #convert(Object)} 一致，对象为 {@code null} 时不写入任何内容
+     * <p>数组及集合的元素、数字、日期直接写入，{@code Clob} 分块读取后写入，不会创建中间的字符串</p>
+     *
+     * @throws CastException 读取 {@code Clob} 失败时
+     */
+    void appendTo(StringBuilder builder, Object obj) {
+        if (obj == null) {
+            return;
+        }
+        if (obj instanceof CharSequence) {
+            builder.append((CharSequence) obj);
+        } else if (Joiner.isJoinable(obj)) {
+            Joiner.append(builder, obj, Joiner.DELIMITER);
+        } else if (obj instanceof Clob) {
+            appendClob(builder, (Clob) obj);
+        } else if (Utils.isEnum(obj)) {
+            builder.append(((Enum) obj).name());
+        } else if (!appendDateTime(builder, obj) && !appendPrimitive(builder, obj)) {
+            builder.append(obj.toString());
+        }
+    }
+
+    /**
+     * 将对象转换后直接写入指定的 {@code Appendable}，结果与 {@link #convert(Object)} 一致，对象为 {@code null} 时不写入任何内容
+     * <p>{@code CharSequence}、枚举及 {@code Clob} 直接写入；数组及集合逐个元素写入，每次只缓存一个元素；
+     * 数字、日期等先在 {@code StringBuilder} 中生成，写入 {@code Writer} 时按块复制字符，不会转换为 {@code String}。
+     * 不会刷新或关闭 {@code Writer}</p>
+     *
+     * @throws CastException 读取 {@code Clob} 或写入失败时
+     */
+    void appendTo(Appendable out, Object obj) {
+        if (out instanceof StringBuilder) {
+            appendTo((StringBuilder) out, obj);
+            return;
+        }
+        if (obj == null) {
+            return;
+        }
+        try {
+            if (obj instanceof CharSequence) {
+                write(out, (CharSequence) obj);
+            } else if (Joiner.isJoinable(obj)) {
+                Joiner.append(out, obj, Joiner.DELIMITER);
+            } else if (obj instanceof Clob) {
+                appendClob(out, (Clob) obj);
+            } else if (Utils.isEnum(obj)) {
+                write(out, ((Enum) obj).name());
+            } else {
+                StringBuilder builder = new StringBuilder(32);
+                appendTo(builder, obj);
+                write(out, builder);
+            }
+        } catch (IOException e) {
+            throw new CastException(e);
+        }
+    }
+
+    /**
+     * 将 {@code Date} 或 {@code Calendar} 以 ISO-8601 的形式写入指定的 {@code StringBuilder}
+     * <ul>
+     *     <li>{@code java.sql.Date} 只写入日期，{@code java.sql.Time} 只写入时间，与其 {@code toString()} 一致</li>
+     *     <li>{@code Timestamp} 写入带偏移量的日期时间，保留纳秒精度</li>
+     *     <li>{@code Date} 按 {@link TimeContext#zone()} 对应的时区，{@code Calendar} 按其自身的时区写入带偏移量的日期时间</li>
+     * </ul>
+     *
+     * @return 写入时返回 {@code true}，对象不是 {@code Date} 或 {@code Calendar} 时返回 {@code false}
+     */
+    boolean appendDateTime(StringBuilder builder, Object obj) {
+        long millis;
+        int offset;
+        if (obj instanceof Date) {
+            millis = ((Date) obj).getTime();
+            offset = TimeContext.offsetOfEpoch(Math.floorDiv(millis, 1000L), TimeContext.zone());
+        } else if (obj instanceof Calendar) {
+            millis = ((Calendar) obj).getTimeInMillis();
+            offset = ((Calendar) obj).getTimeZone().getOffset(millis) / 1000;
+        } else {
+            return false;
+        }
+        long epochSecond = Math.floorDiv(millis, 1000L);
+        if (obj instanceof java.sql.Date) {
+            IsoDateTimeWriter.appendDate(builder, Math.floorDiv(epochSecond + offset, 86400L));
+        } else if (obj instanceof Time) {
+            IsoDateTimeWriter.appendTime(builder, (int) Math.floorMod(epochSecond + offset, 86400L), 0);
+        } else {
+            int nano = obj instanceof Timestamp
+                ? ((Timestamp) obj).getNanos()
+                : (int) Math.floorMod(millis, 1000L) * 1000_000;
+            IsoDateTimeWriter.appendDateTime(builder, epochSecond, nano, offset);
+        }
+        return true;
+    }
+
+    /**
+     * 将包装类型直接写入，数字的形式与其 {@code toString()} 一致
+     *
+     * @return 写入时返回 {@code true}
+     */
+    private static boolean appendPrimitive(StringBuilder builder, Object obj) {
+        if (obj instanceof Integer || obj instanceof Long || obj instanceof Short || obj instanceof Byte) {
+            builder.append(((Number) obj).longValue());
+        } else if (obj instanceof Double) {
+            builder.append(((Double) obj).doubleValue());
+        } else if (obj instanceof Float) {
+            builder.append(((Float) obj).floatValue());
+        } else if (obj instanceof Boolean) {
+            builder.append(((Boolean) obj).booleanValue());
+        } else if (obj instanceof Character) {
+            builder.append(((Character) obj).charValue());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 分块读取 {@code Clob} 中的字符并写入，写入 {@code StringBuilder} 时按其长度预先扩容
+     */
+    private static void appendClob(Appendable out, Clob clob) {
+        try (Reader reader = clob.getCharacterStream()) {
+            if (out instanceof StringBuilder) {
+                StringBuilder builder = (StringBuilder) out;
+                long capacity = builder.length() + clob.length();
+                if (capacity <= Integer.MAX_VALUE - 8) {
+                    builder.ensureCapacity((int) capacity);
+                }
+            }
+            char[] buffer = new char[CHUNK_SIZE];
+            CharBuffer view = CharBuffer.wrap(buffer);
+            int length;
+            while ((length = reader.read(buffer)) != -1) {
+                if (out instanceof Writer) {
+                    ((Writer) out).write(buffer, 0, length);
+                } else if (out instanceof StringBuilder) {
+                    ((StringBuilder) out).append(buffer, 0, length);
+                } else {
+                    // 通过 Buffer 调用，Java 8 的 CharBuffer 没有返回 CharBuffer 的 clear 方法
+                    ((Buffer) view).clear().limit(length);
+                    out.append(view);
+                }
+            }
+        } catch (SQLException | IOException e) {
+            throw new CastException(e);
+        }
+    }
+
+    /**
+     * 写入字符序列，{@code Writer} 的 {@code append} 方法会先转换为 {@code String}，因此 {@code StringBuilder} 按块复制后写入
+     */
+    private static void write(Appendable out, CharSequence value) throws IOException {
+        if (!(out instanceof Writer)) {
+            out.append(value);
+            return;
+        }
+        Writer writer = (Writer) out;
+        if (value instanceof String) {
+            writer.write((String) value);
+        } else if (value instanceof StringBuilder) {
+            StringBuilder builder = (StringBuilder) value;
+            char[] buffer = new char[Math.min(builder.length(), CHUNK_SIZE)];
+            for (int start = 0; start < builder.length(); start += buffer.length) {
+                int end = Math.min(builder.length(), start + buffer.length);
+                builder.getChars(start, end, buffer, 0);
+                writer.write(buffer, 0, end - start);
+            }
+        } else {
+            writer.append(value);
+        }
+    }
+
+    /**
+     * 将日期时间转换为可以格式化的 {@code TemporalAccessor}
+     *
+     * @return 转换后的 {@code TemporalAccessor}，对象不是日期时间时返回 {@code null}
+     */
+    private static TemporalAccessor toTemporal(Object obj) {
+        if (obj instanceof Timestamp) {
+            return ZonedDateTime.ofInstant(((Timestamp) obj).toInstant(), TimeContext.zone());
+        }
+        if (obj instanceof Date) {
+            return ZonedDateTime.ofInstant(Instant.ofEpochMilli(((Date) obj).getTime()), TimeContext.zone());
+        }
+        if (obj instanceof Calendar) {
+            Calendar calendar = (Calendar) obj;
+            ZoneId zone = calendar.getTimeZone().toZoneId();
+            return ZonedDateTime.ofInstant(Instant.ofEpochMilli(calendar.getTimeInMillis()), zone);
+        }
+        if (obj instanceof Instant) {
+            return ZonedDateTime.ofInstant((Instant) obj, TimeContext.zone());
+        }
+        if (obj instanceof TemporalAccessor) {
+            return (TemporalAccessor) obj;
+        }
+        return null;
+    }
+
 }
@@ -0,0 +1,148 @@
+package com.cast;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * 将对象转换为 {@code java.time} 类型，支持 {@code Instant}、{@code LocalDate}、{@code LocalDateTime}、{@code OffsetDateTime}
+ * <p>每种源类型都直接转换为本地时间的秒数、纳秒数及偏移量，再一次性构造目标类型，不会先创建 {@code Date} 等中间对象</p>
+ */
+class ToTemporalConverter extends ConditionConverter<Temporal> {
+
+    @Override
+    public Temporal convert(Object obj) {
+        return convert(obj, Instant.class);
+    }
+
+    @Override
+    public <T extends Temporal> T convert(Object obj, Class<T> targetClass) {
+        if (obj == null) {
+            return null;
+        }
+        T result = tryConvert(obj, targetClass);
+        if (result == null) {
+            if (obj instanceof CharSequence) {
+                throw new CastException("the value [" + obj + "] cannot cast to " + targetClass);
+            }
+            throw new CastException(obj.getClass(), targetClass);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Temporal> T tryConvert(Object obj, Class<T> targetClass) {
+        if (obj == null) {
+            return null;
+        }
+        if (targetClass.isInstance(obj)) {
+            return (T) obj;
+        }
+        ZoneId zone = TimeContext.zone();
+        if (obj instanceof Number) {
+            long millis = ((Number) obj).longValue();
+            return fromEpoch(Math.floorDiv(millis, 1000L), (int) Math.floorMod(millis, 1000L) * 1000_000, zone, targetClass);
+        }
+        if (obj instanceof CharSequence) {
+            CharSequence value = (CharSequence) obj;
+            IsoDateTimeParser parser = IsoDateTimeParser.get();
+            if (!parser.parse(value, 0, value.length(), zone)) {
+                return null;
+            }
+            if (parser.offset() == Integer.MIN_VALUE) {
+                return fromEpoch(parser.epochSecond(), parser.nano(), zone, targetClass);
+            }
+            return build(parser.epochSecond() + parser.offset(), parser.nano(), parser.offset(), targetClass);
+        }
+        if (obj instanceof Timestamp) {
+            Timestamp timestamp = (Timestamp) obj;
+            return fromEpoch(Math.floorDiv(timestamp.getTime(), 1000L), timestamp.getNanos(), zone, targetClass);
+        }
+        if (obj instanceof Date) {
+            long millis = ((Date) obj).getTime();
+            return fromEpoch(Math.floorDiv(millis, 1000L), (int) Math.floorMod(millis, 1000L) * 1000_000, zone, targetClass);
+        }
+        if (obj instanceof Calendar) {
+            Calendar calendar = (Calendar) obj;
+            long millis = calendar.getTimeInMillis();
+            return fromEpoch(Math.floorDiv(millis, 1000L), (int) Math.floorMod(millis, 1000L) * 1000_000,
+                calendar.getTimeZone().toZoneId(), targetClass);
+        }
+        if (obj instanceof TemporalAccessor) {
+            return fromTemporal((TemporalAccessor) obj, zone, targetClass);
+        }
+        return null;
+    }
+
+    private static <T extends Temporal> T fromTemporal(TemporalAccessor accessor, ZoneId zone, Class<T> targetClass) {
+        if (accessor instanceof LocalDateTime) {
+            LocalDateTime dateTime = (LocalDateTime) accessor;
+            long localSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+            return build(localSecond, dateTime.getNano(), TimeContext.offsetOfLocal(localSecond, zone), targetClass);
+        }
+        if (accessor instanceof LocalDate) {
+            long localSecond = ((LocalDate) accessor).toEpochDay() * 86400;
+            return build(localSecond, 0, TimeContext.offsetOfLocal(localSecond, zone), targetClass);
+        }
+        if (accessor instanceof OffsetDateTime) {
+            OffsetDateTime dateTime = (OffsetDateTime) accessor;
+            int offset = dateTime.getOffset().getTotalSeconds();
+            return build(dateTime.toEpochSecond() + offset, dateTime.getNano(), offset, targetClass);
+        }
+        if (accessor instanceof ZonedDateTime) {
+            ZonedDateTime dateTime = (ZonedDateTime) accessor;
+            int offset = dateTime.getOffset().getTotalSeconds();
+            return build(dateTime.toEpochSecond() + offset, dateTime.getNano(), offset, targetClass);
+        }
+        if (accessor instanceof Instant) {
+            Instant instant = (Instant) accessor;
+            return fromEpoch(instant.getEpochSecond(), instant.getNano(), zone, targetClass);
+        }
+        Instant instant = Utils.toInstant(accessor);
+        return instant == null ? null : fromEpoch(instant.getEpochSecond(), instant.getNano(), zone, targetClass);
+    }
+
+    /**
+     * 按指定时区在该时刻的偏移量构造目标类型
+     */
+    private static <T extends Temporal> T fromEpoch(long epochSecond, int nano, ZoneId zone, Class<T> targetClass) {
+        if (targetClass == Instant.class) {
+            return targetClass.cast(Instant.ofEpochSecond(epochSecond, nano));
+        }
+        int offset = TimeContext.offsetOfEpoch(epochSecond, zone);
+        return build(epochSecond + offset, nano, offset, targetClass);
+    }
+
+    /**
+     * 根据本地时间的秒数（以 UTC 计算）、纳秒数及偏移量构造目标类型
+     *
+     * @return 目标类型的实例，不支持的目标类型返回 {@code null}
+     */
+    private static <T extends Temporal> T build(long localSecond, int nano, int offset, Class<T> targetClass) {
+        Object result;
+        if (targetClass == Instant.class) {
+            result = Instant.ofEpochSecond(localSecond - offset, nano);
+        } else if (targetClass == LocalDate.class) {
+            result = LocalDate.ofEpochDay(Math.floorDiv(localSecond, 86400L));
+        } else if (targetClass == LocalDateTime.class) {
+            result = LocalDateTime.ofEpochSecond(localSecond, nano, ZoneOffset.UTC);
+        } else if (targetClass == OffsetDateTime.class) {
+            result = OffsetDateTime.of(LocalDateTime.ofEpochSecond(localSecond, nano, ZoneOffset.UTC),
+                ZoneOffset.ofTotalSeconds(offset));
+        } else {
+            return null;
+        }
+        return targetClass.cast(result);
+    }
+
+}
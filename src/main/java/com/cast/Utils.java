@@ -1,12 +1,13 @@
 package com.cast;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.SQLException;
@@ -17,23 +18,21 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
-import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 final class Utils {
 
     private Utils() {
     }
 
-    private static final String DELIMITER = ",";
-    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
-    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
-
     /**
      * 判断指定的对象是否是数组
      *
@@ -51,7 +50,7 @@ final class Utils {
      * @return 如果是返回 {@code true}，否则返回 {@code false}
      */
     static boolean isEnum(Object obj) {
-        return obj != null && obj.getClass().isEnum();
+        return obj instanceof Enum;
     }
 
     /**
@@ -98,7 +97,7 @@ final class Utils {
      * @param value       要转换的原始 {@code Number} 值
      * @param targetClass 目标数字类型
      * @param <T>         目标类型泛型，继承自 {@code Number}
-     * @return 转换后的目标类型的值
+     * @return 转换后的目标类型的值，如果不支持目标类型返回 {@code null}
      */
     @SuppressWarnings("unchecked")
     static <T extends Number> T numberToTarget(Number value, Class<T> targetClass) {
@@ -130,194 +129,236 @@ final class Utils {
             return (T) BigInteger.valueOf(value.longValue());
         }
         if (targetClass == BigDecimal.class) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return (T) BigDecimal.valueOf(value.longValue());
+            }
+            if (value instanceof BigInteger) {
+                return (T) new BigDecimal((BigInteger) value);
+            }
+            if (value instanceof Double || value instanceof Float) {
+                double doubleValue = value.doubleValue();
+                if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                    return null;
+                }
+                if (value instanceof Double) {
+                    return (T) BigDecimal.valueOf(doubleValue);
+                }
+            }
             return (T) new BigDecimal(value.toString());
         }
-        throw new CastException(Number.class, targetClass);
+        return null;
     }
 
     /**
-     * 将指定的字符串值转换为指定的数字类型
+     * 将指定的字符串值转换为指定的数字类型，整个过程不会抛出异常
      *
      * @param value       字符串类型的源值
      * @param targetClass 目标数字类型
      * @param <T>         目标数字类型泛型
-     * @return
+     * @return 转换后的值，如果字符串不能转换为目标类型返回 {@code null}
+     */
+    static <T extends Number> T stringToTargetNumber(CharSequence value, Class<T> targetClass) {
+        return stringToTargetNumber(value, 0, value.length(), targetClass);
+    }
+
+    /**
+     * 将字符串中 {@code [start, end)} 范围内的字符转换为指定的数字类型，整个过程不会创建子字符串，也不会抛出异常
+     *
+     * @param value       字符串类型的源值
+     * @param start       起始位置（包含）
+     * @param end         结束位置（不包含）
+     * @param targetClass 目标数字类型
+     * @param <T>         目标数字类型泛型
+     * @return 转换后的值，如果不能转换为目标类型返回 {@code null}
      */
     @SuppressWarnings("unchecked")
-    static <T extends Number> T stringToTargetNumber(String value, Class<T> targetClass) {
+    static <T extends Number> T stringToTargetNumber(CharSequence value, int start, int end, Class<T> targetClass) {
         if (Byte.class == targetClass) {
-            return (T) (isHexNumber(value) ? Byte.decode(value) : Byte.valueOf(value));
+            long result = NumberParser.parseLong(value, start, end, Long.MIN_VALUE);
+            return result < Byte.MIN_VALUE || result > Byte.MAX_VALUE ? null : (T) Byte.valueOf((byte) result);
         }
         if (Short.class == targetClass) {
-            return (T) (isHexNumber(value) ? Short.decode(value) : Short.valueOf(value));
+            long result = NumberParser.parseLong(value, start, end, Long.MIN_VALUE);
+            return result < Short.MIN_VALUE || result > Short.MAX_VALUE ? null : (T) Short.valueOf((short) result);
         }
         if (Integer.class == targetClass) {
-            return (T) (isHexNumber(value) ? Integer.decode(value) : Integer.valueOf(value));
+            long result = NumberParser.parseLong(value, start, end, Long.MIN_VALUE);
+            return result < Integer.MIN_VALUE || result > Integer.MAX_VALUE ? null : (T) Integer.valueOf((int) result);
         }
         if (Long.class == targetClass) {
-            return (T) (isHexNumber(value) ? Long.decode(value) : Long.valueOf(value));
+            // 以两个不同的默认值解析，两次都返回各自的默认值时说明无法解析
+            long result = NumberParser.parseLong(value, start, end, Long.MIN_VALUE);
+            if (result == Long.MIN_VALUE && NumberParser.parseLong(value, start, end, Long.MAX_VALUE) == Long.MAX_VALUE) {
+                return null;
+            }
+            return (T) Long.valueOf(result);
         }
         if (Float.class == targetClass) {
-            return (T) Float.valueOf(value);
+            float result = NumberParser.parseFloat(value, start, end, Float.NaN);
+            if (result != result && NumberParser.parseFloat(value, start, end, 0f) == 0f) {
+                return null;
+            }
+            return (T) Float.valueOf(result);
         }
         if (Double.class == targetClass) {
-            return (T) Double.valueOf(value);
+            double result = NumberParser.parseDouble(value, start, end, Double.NaN);
+            if (result != result && NumberParser.parseDouble(value, start, end, 0d) == 0d) {
+                return null;
+            }
+            return (T) Double.valueOf(result);
         }
         if (BigInteger.class == targetClass) {
-            int radix = 10;
-            int index = 0;
-            boolean negative = false;
-            if (value.indexOf(0) == '-') {
-                index++;
-                negative = true;
-            }
-            if (value.startsWith("0x", index) || value.startsWith("0X", index)) {
-                index += 2;
-                radix = 16;
-            } else if (value.startsWith("#", index)) {
-                index++;
-                radix = 16;
-            } else if (value.startsWith("0", index) && value.length() > 1 + index) {
-                index++;
-                radix = 9;
-            }
-            BigInteger bi = new BigInteger(value.substring(index), radix);
-            return (T) (negative ? bi.negate() : bi);
+            return (T) NumberParser.parseBigInteger(value, start, end);
         }
         if (BigDecimal.class == targetClass) {
-            return (T) new BigDecimal(value);
+            return (T) NumberParser.parseBigDecimal(value, start, end);
         }
         return null;
     }
 
-    private static boolean isHexNumber(String value) {
-        int index = value.charAt(0) == '-' ? 1 : 0;
-        return value.startsWith("0x", index) || value.startsWith("0X", index) || value.startsWith("#", index);
-    }
-
-    static long checkAndToLong(Number number) {
-        BigInteger res = null;
-        if (number instanceof BigInteger) {
-            res = (BigInteger) number;
-        } else if (number instanceof BigDecimal) {
-            res = ((BigDecimal) number).toBigInteger();
-        }
-        if (res != null && (res.compareTo(LONG_MIN) < 0 || res.compareTo(LONG_MAX) > 0)) {
-
-        }
-        return number.longValue();
-    }
-
     /**
-     * 将数组转换为字符串，直接调用元素对象的{@code toString}方法， 如果数组中包含 {@code null} 元素或 {@code toString} 后
-     * 字符串为空，将会忽略。
-     * <p>
-     * 例：int[]{1, 2, 3} => "1,2,3"
-     * </p>
+     * 将 {@code ByteBuffer} 中剩余的 ASCII 字节转换为指定的数字类型，不会修改缓冲区的位置，也不会抛出异常
+     * <p>整数及浮点数类型直接在字节上解析，{@code BigInteger} 与 {@code BigDecimal} 会先解码为字符串</p>
      *
-     * @param values 要转换的数组
-     * @return 转换后的字符串，如果指定的数据为 {@code null}，或长度为 0，返回空字符串
+     * @param value       字节缓冲区
+     * @param targetClass 目标数字类型
+     * @param <T>         目标数字类型泛型
+     * @return 转换后的值，如果不能转换为目标类型返回 {@code null}
      */
-    static String arrayToString(Object values) {
-        if (values == null) {
-            return "";
-        }
-        int length = Array.getLength(values);
-        if(length == 0) {
-            return "";
-        }
-        StringJoiner joiner = new StringJoiner(DELIMITER);
-        for (int i = 0, len = length; i < len; i++) {
-            Object item = Array.get(values, i);
-            if(item == null) {
-                continue;
+    @SuppressWarnings("unchecked")
+    static <T extends Number> T bytesToTargetNumber(ByteBuffer value, Class<T> targetClass) {
+        if (Byte.class == targetClass) {
+            long result = AsciiNumberParser.parseLong(value, Long.MIN_VALUE);
+            return result < Byte.MIN_VALUE || result > Byte.MAX_VALUE ? null : (T) Byte.valueOf((byte) result);
+        }
+        if (Short.class == targetClass) {
+            long result = AsciiNumberParser.parseLong(value, Long.MIN_VALUE);
+            return result < Short.MIN_VALUE || result > Short.MAX_VALUE ? null : (T) Short.valueOf((short) result);
+        }
+        if (Integer.class == targetClass) {
+            long result = AsciiNumberParser.parseLong(value, Long.MIN_VALUE);
+            return result < Integer.MIN_VALUE || result > Integer.MAX_VALUE ? null : (T) Integer.valueOf((int) result);
+        }
+        if (Long.class == targetClass) {
+            long result = AsciiNumberParser.parseLong(value, Long.MIN_VALUE);
+            if (result == Long.MIN_VALUE && AsciiNumberParser.parseLong(value, Long.MAX_VALUE) == Long.MAX_VALUE) {
+                return null;
             }
-            String str = String.valueOf(item);
-            if (str.isEmpty()) {
-                continue;
+            return (T) Long.valueOf(result);
+        }
+        if (Float.class == targetClass || Double.class == targetClass) {
+            boolean single = Float.class == targetClass;
+            double result = AsciiNumberParser.parseDouble(value, single, Double.NaN);
+            if (result != result && AsciiNumberParser.parseDouble(value, single, 0d) == 0d) {
+                return null;
             }
-            joiner.add(str);
+            return (T) (single ? (Number) (float) result : (Number) result);
         }
-        return joiner.toString();
+        if (BigInteger.class == targetClass || BigDecimal.class == targetClass) {
+            return stringToTargetNumber(AsciiNumberParser.toAsciiString(value), targetClass);
+        }
+        return null;
     }
 
     /**
-     * 将指定的 {@code Collection} 转换为字符串.
-     * <p></p>
+     * 检查 {@code [start, end)} 是否是长度为 {@code length} 的序列中的合法范围
      *
-     * @param value 被转换的集合
-     * @return
+     * @throws IndexOutOfBoundsException 范围不合法时
      */
-    static String collectionToString(Collection value) {
-        if (value == null || value.isEmpty()) {
-            return "";
-        }
-        StringJoiner joiner = new StringJoiner(DELIMITER);
-        Iterator iterator = value.iterator();
-        Object item;
-        while (iterator.hasNext()) {
-            item = iterator.next();
-            if (item == null) {
-                continue;
-            }
-            String str = item.toString();
-            if (str.isEmpty()) {
-                continue;
-            }
-            joiner.add(str);
+    static void checkRange(int length, int start, int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
         }
-        return joiner.toString();
     }
 
-    static byte[] getBytesFromInputStream(InputStream in) {
-        try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream(in.available());
-            byte[] buffer = new byte[1024 * 2];
-            int len;
-            while ((len = in.read(buffer)) != -1) {
-                baos.write(buffer, 0, len);
+    /**
+     * 判断指定的 {@code Number} 能否无损地转换为 {@code long}，即不包含小数部分且没有超出 {@code long} 的范围
+     * <p>检查过程只使用基本类型的比较、{@link BigInteger#bitLength()} 以及 {@link BigDecimal#precision()}，
+     * 不会与 {@code BigInteger} 边界值比较，也不会创建中间对象（仅含小数位的 {@code BigDecimal} 除外）。
+     * 返回 {@code true} 时，{@link Number#longValue()} 的结果即为精确值</p>
+     *
+     * @param value 要检查的数字
+     * @return 能无损转换时返回 {@code true}
+     */
+    static boolean isLongValueExact(Number value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte
+            || value instanceof AtomicLong || value instanceof AtomicInteger) {
+            return true;
+        }
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).bitLength() <= 63;
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            if (decimal.signum() == 0) {
+                return true;
             }
-            return baos.toByteArray();
-        } catch (IOException e) {
-            throw new CastException(e);
-        } finally {
-            if (in != null) {
-                try {
-                    in.close();
-                } catch (IOException ignore) {
-                }
+            // 非零值的绝对值小于 10^(precision - scale)，整数部分超过 19 位时必然超出 long 的范围
+            if (decimal.precision() - decimal.scale() > 19) {
+                return false;
+            }
+            if (decimal.scale() > 0 && decimal.stripTrailingZeros().scale() > 0) {
+                return false;
             }
+            // 绝对值小于 10^19 < 2^64，溢出时至多回绕一次，符号必然改变
+            return Long.signum(decimal.longValue()) == decimal.signum();
         }
+        double doubleValue = value.doubleValue();
+        // NaN 不满足范围条件；-2^63 <= d < 2^63 时强制转换不会饱和，转换前后相等说明没有小数部分
+        return doubleValue >= -0x1p63 && doubleValue < 0x1p63 && (long) doubleValue == doubleValue;
     }
 
+    /**
+     * 将指定的 {@code TemporalAccessor} 转换为 {@code Instant}
+     * <p>没有偏移量的本地时间使用 {@link TimeContext#zone()} 对应的时区，只有时间没有日期时使用 {@link TimeContext} 中时钟的当前日期</p>
+     *
+     * @param accessor 要转换的时间对象
+     * @return 转换后的 {@code Instant}，如果不包含足够的时间信息返回 {@code null}
+     */
     static Instant toInstant(TemporalAccessor accessor) {
         if (accessor instanceof Instant) {
             return (Instant) accessor;
         }
         if (accessor instanceof LocalDateTime) {
-            return ((LocalDateTime) accessor).atZone(ZoneId.systemDefault()).toInstant();
+            LocalDateTime dateTime = (LocalDateTime) accessor;
+            long localSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+            return Instant.ofEpochSecond(localSecond - TimeContext.offsetOfLocal(localSecond, TimeContext.zone()),
+                dateTime.getNano());
         }
         if (accessor instanceof OffsetDateTime) {
             return ((OffsetDateTime) accessor).toInstant();
         }
         if (accessor instanceof LocalDate) {
-            return ((LocalDate) accessor).atStartOfDay(ZoneId.systemDefault()).toInstant();
+            long localSecond = ((LocalDate) accessor).toEpochDay() * 86400;
+            return Instant.ofEpochSecond(localSecond - TimeContext.offsetOfLocal(localSecond, TimeContext.zone()));
         }
         if (accessor instanceof LocalTime) {
-            return ((LocalTime) accessor).atDate(LocalDate.now()).atZone(ZoneId.systemDefault()).toInstant();
+            LocalTime time = (LocalTime) accessor;
+            ZoneId zone = TimeContext.zone();
+            long localSecond = TimeContext.today(zone) * 86400 + time.toSecondOfDay();
+            return Instant.ofEpochSecond(localSecond - TimeContext.offsetOfLocal(localSecond, zone), time.getNano());
         }
         if (accessor instanceof OffsetTime) {
-            return ((OffsetTime) accessor).atDate(LocalDate.now()).toInstant();
+            OffsetTime time = (OffsetTime) accessor;
+            long localSecond = TimeContext.today(TimeContext.zone()) * 86400 + time.toLocalTime().toSecondOfDay();
+            return Instant.ofEpochSecond(localSecond - time.getOffset().getTotalSeconds(), time.getNano());
         }
         if (accessor instanceof ZonedDateTime) {
             return ((ZonedDateTime) accessor).toInstant();
         }
+        if (!accessor.isSupported(ChronoField.INSTANT_SECONDS)) {
+            return null;
+        }
         return Instant.from(accessor);
     }
 
     static String clobToString(Clob clob) {
         try (Reader reader = clob.getCharacterStream()) {
-            StringBuilder sb = new StringBuilder((int) clob.length());
+            long capacity = clob.length();
+            if (capacity > Integer.MAX_VALUE - 8) {
+                throw new CastException("the clob is too large to fit in a String: " + capacity + " chars");
+            }
+            StringBuilder sb = new StringBuilder((int) capacity);
             char[] buffer = new char[1024];
             int length = 0;
             while ((length = reader.read(buffer)) != -1) {
@@ -329,53 +370,31 @@ final class Utils {
         }
     }
 
-    static byte[] blobToBytesArray(Blob blob) {
+    /**
+     * 读取 {@code Blob} 中的全部字节，按其长度直接读入长度正好的数组
+     *
+     * @param maxSize 读取的上限
+     * @throws CastException 读取失败或超出上限时
+     */
+    static byte[] blobToBytesArray(Blob blob, long maxSize) {
         try (InputStream in = blob.getBinaryStream()) {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream((int) blob.length());
-            byte[] buffer = new byte[1024];
-            int length = 0;
-            while ((length = in.read(buffer)) != -1) {
-                baos.write(buffer, 0, length);
-            }
-            return baos.toByteArray();
+            return ByteStreamReader.read(in, blob.length(), maxSize);
         } catch (SQLException | IOException e) {
             throw new CastException(e);
         }
     }
 
+    /**
+     * 将数字转换为大端序的二进制形式，规则见 {@link BinaryCodec}
+     *
+     * @return 二进制形式，不支持的数字类型返回 {@code null}
+     */
     static byte[] numberToBytes(Number number) {
-        if(number instanceof Byte) {
-            return new byte[]{number.byteValue()};
-        }
-        if(number instanceof Short) {
-            short value = number.shortValue();
-            return new byte[]{
-                (byte) ((value >> 8) & 0xff),
-                (byte) (value & 0xff)
-            };
-        }
-        if(number instanceof Integer) {
-            int value = number.intValue();
-            return new byte[]{
-                (byte) ((value >> 24) & 0xff),
-                (byte) ((value >> 16) & 0xff),
-                (byte) ((value >> 8) & 0xff),
-                (byte) (value & 0xff)
-            };
-        }
-        if(number instanceof Long) {
-            long value = number.longValue();
-            byte[] result = new byte[8];
-            for(int i = 7; i >= 0; i--){
-                result[i] = (byte) (value & 0xff);
-                value >>= 8;
-            }
-            return result;
-        }
-        if(number instanceof BigInteger) {
-            return ((BigInteger) number).toByteArray();
+        try {
+            return BinaryCodec.toBytes(number, ByteOrder.BIG_ENDIAN);
+        } catch (CastException e) {
+            return null;
         }
-        return null;
     }
 
 }
@@ -0,0 +1,69 @@
+package com.cast;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 比较 {@code BigInteger} 的几种字符串解析方式，用于确定 {@link NumberParser#DIVIDE_AND_CONQUER_THRESHOLD}
+ * <p>运行方式：{@code mvn test-compile -Dmaven.test.skip=false} 后以测试 classpath 执行该类的 {@code main} 方法</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BigIntegerParseBenchmark {
+
+    @Param({"100", "200", "300", "500", "1000", "2000", "5000", "10000", "100000"})
+    public int digits;
+
+    private String value;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(digits);
+        StringBuilder builder = new StringBuilder(digits);
+        builder.append((char) ('1' + random.nextInt(9)));
+        while (builder.length() < digits) {
+            builder.append((char) ('0' + random.nextInt(10)));
+        }
+        value = builder.toString();
+    }
+
+    @Benchmark
+    public BigInteger jdk() {
+        return new BigInteger(value);
+    }
+
+    @Benchmark
+    public BigInteger linear() {
+        return NumberParser.parseDecimalBigIntegerLinear(value, 0, value.length());
+    }
+
+    @Benchmark
+    public BigInteger divideAndConquer() {
+        return NumberParser.parseDecimalBigIntegerRecursive(value, 0, value.length());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BigIntegerParseBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
@@ -2,12 +2,49 @@ package com.cast;
 
 import org.junit.Test;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
 
 import static org.junit.Assert.*;
 
@@ -37,6 +74,204 @@ public class CastTest {
         assertEquals("VALUE1", Cast.toStr(TestEnum.VALUE1, ""));
     }
 
+    @Test
+    public void testJoin() {
+        assertEquals("1; -2; 3", Cast.join(new int[]{1, -2, 3}, "; "));
+        assertEquals("1,9223372036854775807", Cast.join(new long[]{1, Long.MAX_VALUE}, null));
+        assertEquals("1.5|-0.0|NaN", Cast.join(new double[]{1.5, -0.0, Double.NaN}, "|"));
+        assertEquals("1.5,2.0", Cast.toStr(new float[]{1.5f, 2f}));
+        assertEquals("a,b", Cast.toStr(new char[]{'a', 'b'}));
+        assertEquals("true,false", Cast.toStr(new boolean[]{true, false}));
+        assertEquals("-1,127", Cast.toStr(new byte[]{-1, 127}));
+        assertEquals("", Cast.toStr(new int[0]));
+        assertEquals("a-1-2.5", Cast.join(new Object[]{null, "a", "", 1, 2.5}, "-"));
+        assertEquals("x y", Cast.join(new LinkedList<>(Arrays.asList("x", null, "y")), " "));
+        assertEquals("1 2", Cast.join(Arrays.asList(1L, 2L), " "));
+        assertEquals("VALUE1", Cast.join(TestEnum.VALUE1, " "));
+        assertNull(Cast.join(null, " "));
+    }
+
+    @Test
+    public void testAppendTo() throws Exception {
+        Date date = new Date(1559367930123L);
+        Object[] values = {"a", new int[]{1, 2}, Arrays.asList("x", null, "y"), Arrays.asList(1, "", 2.5f, null, "z"),
+            new double[]{0.5}, new char[0], TestEnum.VALUE1, 12L, 1.5, true,
+            date, new Timestamp(1559367930123L), new BigDecimal("1.50"), new SerialClob("clob".toCharArray())};
+        StringBuilder expected = new StringBuilder();
+        for (Object value : values) {
+            expected.append(Cast.toStr(value)).append('|');
+        }
+
+        StringBuilder builder = new StringBuilder();
+        StringWriter writer = new StringWriter();
+        StringBuffer buffer = new StringBuffer();
+        for (Object value : values) {
+            Cast.appendTo(builder, value).append('|');
+            Cast.appendTo(writer, value).append('|');
+            Cast.appendTo((Appendable) buffer, value).append('|');
+        }
+        assertEquals(expected.toString(), builder.toString());
+        assertEquals(expected.toString(), writer.toString());
+        assertEquals(expected.toString(), buffer.toString());
+
+        assertEquals("", Cast.appendTo(new StringBuilder(), null).toString());
+        char[] chars = new char[20000];
+        Arrays.fill(chars, 'c');
+        assertEquals(new String(chars), Cast.appendTo(new StringWriter(), new SerialClob(chars)).toString());
+
+        // 数组及集合逐个元素写入 Writer，不会先生成完整的结果
+        int[] numbers = new int[10000];
+        Arrays.fill(numbers, 12345);
+        AtomicInteger maxWrite = new AtomicInteger();
+        StringWriter target = new StringWriter() {
+            @Override
+            public void write(String str) {
+                write(str, 0, str.length());
+            }
+
+            @Override
+            public void write(String str, int off, int len) {
+                maxWrite.accumulateAndGet(len, Math::max);
+                super.write(str, off, len);
+            }
+
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                maxWrite.accumulateAndGet(len, Math::max);
+                super.write(cbuf, off, len);
+            }
+        };
+        assertEquals(Cast.toStr(numbers), Cast.appendTo(target, numbers).toString());
+        assertTrue(maxWrite.get() <= 6);
+    }
+
+    @Test
+    public void testSplit() {
+        assertArrayEquals(new int[]{1, -2, 3}, Cast.toIntArray(" 1, -2,,3 ,"));
+        assertArrayEquals(new int[]{1, 2, 3}, Cast.toIntArray(Cast.join(new int[]{1, 2, 3}, "; "), "; ", false));
+        assertArrayEquals(new int[]{1, 2}, Cast.toIntArray(Arrays.asList("1", null, 2L)));
+        assertArrayEquals(new int[]{7}, Cast.toIntArray(7));
+        assertArrayEquals(new int[0], Cast.toIntArray(""));
+        assertNull(Cast.toIntArray(null));
+        int[] values = new int[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 31 - 5000;
+        }
+        assertArrayEquals(values, Cast.toIntArray(Cast.toStr(values)));
+        assertArrayEquals(new long[]{Long.MIN_VALUE, Long.MAX_VALUE, 0x10},
+            Cast.toLongArray("-9223372036854775808|9223372036854775807|0x10", "|", true));
+        assertArrayEquals(new double[]{1.5, -0.0, 1e300}, Cast.toDoubleArray("1.5 , -0.0, 1e300"), 0);
+        assertArrayEquals(new double[]{1, 2}, Cast.toDoubleArray(new int[]{1, 2}), 0);
+        assertArrayEquals(new long[]{1, -2}, Cast.toLongArray(new int[]{1, -2}));
+        assertArrayEquals(new int[]{3, 4}, Cast.toIntArray(new long[]{3, 4}));
+        assertArrayEquals(new double[]{0.5, 3}, Cast.toDoubleArray(new Object[]{0.5f, (byte) 3}), 0);
+        assertEquals(Arrays.asList("0.1", "2.0"), Cast.toList(new float[]{0.1f, 2}, String.class));
+        assertEquals(Arrays.asList((short) 1, (short) 2), Cast.toList(new short[]{1, 2}, Object.class));
+        assertEquals(Arrays.asList('c', 'd'), Cast.toList(new char[]{'c', 'd'}, Object.class));
+
+        assertEquals(Arrays.asList(1, 2, 3), Cast.toList("1,2,3", Integer.class));
+        assertEquals(Arrays.asList(new BigDecimal("1.50"), BigDecimal.ONE), Cast.toList("1.50 1", BigDecimal.class, " ", true));
+        assertEquals(Arrays.asList(true, false, true), Cast.toList("true, off ,YES", Boolean.class));
+        assertEquals(Arrays.asList(" a", " b"), Cast.toList(" a, b", String.class, ",", false));
+        assertEquals(Arrays.asList(TestEnum.VALUE1, TestEnum.VALUE2), Cast.toList("VALUE1::VALUE2", TestEnum.class, "::", true));
+        assertEquals(Arrays.asList('x', 'y'), Cast.toList(new String[]{"x", "y"}, Character.class));
+
+        for (Object invalid : new Object[]{new long[]{5_000_000_000L}, Arrays.asList(1.5), new double[]{1e20}}) {
+            try {
+                Cast.toIntArray(invalid);
+                fail();
+            } catch (CastException ignored) {
+            }
+        }
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, 3}, Cast.toIntArray(new Object[]{Integer.MIN_VALUE, new BigDecimal("3.00")}));
+        try {
+            Cast.toLongArray(new double[]{1e19});
+            fail();
+        } catch (CastException ignored) {
+        }
+        try {
+            Cast.toIntArray("1,a,3");
+            fail();
+        } catch (CastException e) {
+            assertTrue(e.getMessage().contains("[a]"));
+        }
+        try {
+            Cast.toIntArray("1, 2", ",", false);
+            fail();
+        } catch (CastException ignored) {
+        }
+        try {
+            Cast.toIntArray("1,2", "", true);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    enum CaseEnum {
+        @EnumAlias("x")
+        ab, AB,
+        @EnumAlias({"v1", "first"})
+        Cd
+    }
+
+    @Test
+    public void testToEnumLookup() {
+        assertEquals(TestEnum.VALUE1, Cast.toEnum(" value1 ", TestEnum.class));
+        assertEquals(TestEnum.VALUE2, Cast.toEnum(1, TestEnum.class));
+        assertEquals(TestEnum.VALUE2, Cast.toEnum(1.0, TestEnum.class));
+        assertNull(Cast.toEnum(2, TestEnum.class, null));
+        assertNull(Cast.toEnum(0.5, TestEnum.class, null));
+        assertNull(Cast.toEnum("", TestEnum.class, null));
+        assertEquals(TestEnum.VALUE1, Cast.toEnum(Cast.toInteger(TestEnum.VALUE1), TestEnum.class));
+
+        assertEquals(CaseEnum.ab, Cast.toEnum("ab", CaseEnum.class));
+        assertEquals(CaseEnum.AB, Cast.toEnum("AB", CaseEnum.class));
+        assertNull(Cast.toEnum("Ab", CaseEnum.class, null));
+        assertEquals(CaseEnum.Cd, Cast.toEnum("CD", CaseEnum.class));
+        assertEquals(CaseEnum.ab, Cast.toEnum("X", CaseEnum.class));
+        assertEquals(CaseEnum.Cd, Cast.toEnum("v1", CaseEnum.class));
+        assertEquals(CaseEnum.Cd, Cast.toEnum("FIRST", CaseEnum.class));
+        assertNull(Cast.toEnum("v1", TestEnum.class, null));
+        try {
+            Cast.toEnum("VALUE3", TestEnum.class);
+            fail();
+        } catch (CastException ignored) {
+        }
+    }
+
+    enum Permission {
+        READ, WRITE, ADMIN
+    }
+
+    @Test
+    public void testToEnumSet() {
+        assertEquals(EnumSet.of(Permission.READ, Permission.ADMIN), Cast.toEnumSet("READ, admin,", Permission.class));
+        assertEquals(EnumSet.noneOf(Permission.class), Cast.toEnumSet("", Permission.class));
+        assertEquals(EnumSet.of(Permission.WRITE), Cast.toEnumSet(Arrays.asList("write", null, 1), Permission.class));
+        assertEquals(EnumSet.of(Permission.READ, Permission.WRITE), Cast.toEnumSet(new Object[]{Permission.READ, "WRITE"}, Permission.class));
+        assertEquals(EnumSet.of(Permission.READ, Permission.ADMIN), Cast.toEnumSet(0b101L, Permission.class));
+        assertNull(Cast.toEnumSet(null, Permission.class));
+
+        assertEquals(0b101L, Cast.toEnumMask("READ,ADMIN", Permission.class));
+        assertEquals(0b111L, Cast.toEnumMask(new String[]{"read", "write", "admin"}, Permission.class));
+        assertEquals(0b10L, Cast.toEnumMask(EnumSet.of(Permission.WRITE), Permission.class));
+        assertEquals(0b11L, Cast.toEnumMask(3, Permission.class));
+        assertEquals(0L, Cast.toEnumMask(null, Permission.class));
+        assertEquals(Cast.toEnumMask("READ,ADMIN", Permission.class),
+            Cast.toEnumMask(Cast.toEnumSet("READ,ADMIN", Permission.class), Permission.class));
+        try {
+            Cast.toEnumMask("READ,DELETE", Permission.class);
+            fail();
+        } catch (CastException e) {
+            assertTrue(e.getMessage().contains("[DELETE]"));
+        }
+        try {
+            Cast.toEnumSet(0b1000L, Permission.class);
+            fail();
+        } catch (CastException ignored) {
+        }
+    }
+
     @Test
     public void testToBool() {
         assertTrue(Cast.toBool(null, true));
@@ -51,6 +286,25 @@ public class CastTest {
         assertFalse(Cast.toBool("off", true));
         assertFalse(Cast.toBool("no", true));
         assertFalse(Cast.toBool("0", true));
+
+        assertTrue(Cast.toBool(2L, false));
+        assertTrue(Cast.toBool(-0.5d, false));
+        assertFalse(Cast.toBool(new BigDecimal("0.00"), true));
+        assertNull(Cast.toBool(Double.NaN, null));
+        assertNull(Cast.toBool("Enabled", null));
+        try {
+            Cast.addTrueValues("Y", "enabled", "both");
+            Cast.addFalseValues("N", "disabled", "Yes", "both");
+            assertTrue(Cast.toBool("ENABLED", false));
+            assertTrue(Cast.toBool('y', false));
+            assertFalse(Cast.toBooleanValue(new StringBuilder("n"), true));
+            assertTrue(Cast.toBool("yes", false));
+            assertTrue(Cast.toBool("Both", false));
+        } finally {
+            ToBooleanConverter.reset();
+        }
+        assertNull(Cast.toBool("enabled", null));
+        assertNull(Cast.toBool('y', null));
     }
 
     @Test
@@ -61,11 +315,374 @@ public class CastTest {
     }
 
     @Test
-    public void testToBytes() {
+    public void testToPrimitiveValue() {
+        assertEquals(12, Cast.toIntValue("12", 0));
+        assertEquals(-16, Cast.toIntValue("-0x10", 0));
+        assertEquals(255, Cast.toIntValue("#ff", 0));
+        assertEquals(0, Cast.toIntValue("2147483648", 0));
+        assertEquals(0, Cast.toIntValue("1.5", 0));
+        assertEquals(3, Cast.toIntValue(3.7d, 0));
+        assertEquals(1, Cast.toIntValue(TestEnum.VALUE2, 0));
+        assertEquals(97, Cast.toIntValue('a', 0));
+        assertEquals(Long.MIN_VALUE, Cast.toLongValue("-9223372036854775808", 0L));
+        assertEquals(-1L, Cast.toLongValue("9223372036854775808", -1L));
+        assertEquals((byte) 127, Cast.toByteValue(new StringBuilder("127"), (byte) 0));
+        assertEquals((byte) 7, Cast.toByteValue("128", (byte) 7));
+        assertEquals((short) -3, Cast.toShortValue("-3", (short) 0));
+        assertEquals(1.5d, Cast.toDoubleValue(" 1.5 ", 0d), 0d);
+        assertEquals(0.1d, Cast.toDoubleValue("1e-1", 0d), 0d);
+        assertEquals(1.0E300d, Cast.toDoubleValue("1e300", 0d), 0d);
+        assertEquals(-2.5d, Cast.toDoubleValue("abc", -2.5d), 0d);
+        assertEquals(0.3f, Cast.toFloatValue("0.3", 0f), 0f);
+        assertTrue(Cast.toBooleanValue("TRUE", false));
+        assertFalse(Cast.toBooleanValue(new StringBuilder("Off"), true));
+        assertTrue(Cast.toBooleanValue("maybe", true));
+        assertEquals('x', Cast.toCharValue("x", ' '));
+        assertEquals(' ', Cast.toCharValue("xy", ' '));
+    }
+
+    @Test
+    public void testDefaultValueOnMalformedInput() {
+        assertEquals(Integer.valueOf(-1), Cast.toInteger("12a", -1));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), Cast.toLong("-9223372036854775808", 0L));
+        assertEquals(Long.valueOf(0L), Cast.toLong("", 0L));
+        assertEquals(Double.valueOf(Double.NaN), Cast.toDouble("NaN", 0d));
+        assertEquals(Double.valueOf(-1d), Cast.toDouble("1.2.3", -1d));
+        assertEquals(BigInteger.valueOf(12), Cast.toBigInteger("012", null));
+        assertEquals(BigInteger.valueOf(-16), Cast.toBigInteger("-0x10", null));
+        assertNull(Cast.toBigInteger("0xg", null));
+        assertEquals(new BigDecimal("1.5e3"), Cast.toBigDecimal("1.5e3", null));
+        assertNull(Cast.toBigDecimal("1e99999999999", null));
+        assertNull(Cast.toEnum("VALUE3", TestEnum.class, null));
+        assertNull(Cast.toDate("not a date", "yyyyMMdd", null));
+        try {
+            Cast.toInteger("12a");
+            fail();
+        } catch (CastException expected) {
+        }
+    }
+
+    @Test
+    public void testParseRange() {
+        StringBuilder line = new StringBuilder("id=42;price=-1.25;hex=0x1F");
+        assertEquals(42L, Cast.toLong(line, 3, 5, 0L));
+        assertEquals(-1.25d, Cast.toDouble(line, 12, 17, 0d), 0d);
+        assertEquals(31, Cast.toInteger(line, 22, 26, 0));
+        assertEquals(-1L, Cast.toLong(line, 0, 5, -1L));
+        char[] chars = "x123456789012345678901234567890y".toCharArray();
+        assertEquals(new BigInteger("123456789012345678901234567890"), Cast.toBigInteger(chars, 1, 31, null));
+        assertEquals(12345L, Cast.toLong(chars, 1, 6, 0L));
+        assertEquals(new BigDecimal("12345678901234567890.1234567890"),
+            Cast.toBigDecimal("12345678901234567890.1234567890", 0, 31, null));
+        assertEquals(new BigDecimal("-1.50E+3"), Cast.toBigDecimal(new StringBuilder("-1.50E+3"), 0, 8, null));
+        assertEquals(new BigInteger("-fffffffffffffffffffff", 16), Cast.toBigInteger("-#fffffffffffffffffffff", 0, 23, null));
+        try {
+            Cast.toLong(line, 20, 40, 0L);
+            fail();
+        } catch (IndexOutOfBoundsException expected) {
+        }
+    }
+
+    @Test
+    public void testParseAsciiBytes() {
+        byte[] bytes = "v=1234567890123456789;d=-12345678.90123456e-3;".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(1234567890123456789L, Cast.toLong(bytes, 2, 21, 0L));
+        assertEquals(-12345678.90123456e-3d, Cast.toDouble(bytes, 24, 45, 0d), 0d);
+        assertEquals(-1, Cast.toInteger(bytes, 2, 21, -1));
+        assertEquals(-1L, Cast.toLong(bytes, 0, 21, -1L));
+
+        Random random = new Random(42);
+        ByteBuffer direct = ByteBuffer.allocateDirect(32);
+        for (int i = 0; i < 10000; i++) {
+            long expected = random.nextLong() >> random.nextInt(64);
+            byte[] text = Long.toString(expected).getBytes(StandardCharsets.US_ASCII);
+            assertEquals(expected, Cast.toLong(text, 0, text.length, 0L));
+            direct.clear();
+            direct.put(text).flip();
+            assertEquals(expected, Cast.toLongValue(direct, 0L));
+            double value = random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+            text = Double.toString(value).getBytes(StandardCharsets.US_ASCII);
+            assertEquals(value, Cast.toDouble(text, 0, text.length, 0d), 0d);
+        }
+        assertEquals(Long.valueOf(Long.MAX_VALUE), Cast.toLong(ByteBuffer.wrap("9223372036854775807".getBytes()), null));
+        assertNull(Cast.toLong(ByteBuffer.wrap("9223372036854775808".getBytes()), null));
+        assertEquals(Integer.valueOf(255), Cast.toInteger(ByteBuffer.wrap("0xff".getBytes()), null));
+        assertEquals(new BigDecimal("1.25"), Cast.toBigDecimal(ByteBuffer.wrap("1.25".getBytes()), null));
+    }
+
+    @Test
+    public void testToExact() {
+        assertEquals(127, Cast.toByteExact(127L));
+        assertEquals(-1, Cast.toByteExact(300L, (byte) -1));
+        assertEquals(-1, Cast.toByteExact("128", (byte) -1));
+        assertEquals(-1, Cast.toShortExact('\uffff', (short) -1));
+        assertEquals(3, Cast.toIntExact(3.0d));
+        assertEquals(-1, Cast.toIntExact(3.5d, -1));
+        assertEquals(-1, Cast.toIntExact(Double.NaN, -1));
+        assertEquals(6, Cast.toIntExact(new BigDecimal("6.000")));
+        assertEquals(-1, Cast.toIntExact(new BigDecimal("6.001"), -1));
+        assertEquals(1200, Cast.toIntExact(new BigDecimal("1.2E+3")));
+        assertEquals(Long.MIN_VALUE, Cast.toLongExact(BigInteger.valueOf(Long.MIN_VALUE)));
+        assertEquals(Long.MIN_VALUE, Cast.toLongExact("-9223372036854775808"));
+        assertEquals(Long.MIN_VALUE, Cast.toLongExact(-0x1p63));
+        assertEquals(0L, Cast.toLongExact(0x1p63, 0L));
+        assertEquals(0L, Cast.toLongExact(BigInteger.ONE.shiftLeft(63), 0L));
+        assertEquals(0L, Cast.toLongExact(new BigDecimal("9999999999999999999"), 0L));
+        assertEquals(0L, Cast.toLongExact(new BigDecimal("-9223372036854775809"), 0L));
+        assertEquals(Long.MAX_VALUE, Cast.toLongExact(new BigDecimal("9223372036854775807.0")));
+        try {
+            Cast.toLongExact("abc");
+            fail();
+        } catch (CastException expected) {
+        }
+        try {
+            Cast.toIntExact(Long.MAX_VALUE);
+            fail();
+        } catch (CastException expected) {
+        }
+    }
+
+    @Test
+    public void testParseBigNumber() {
+        Random random = new Random(7);
+        for (int digits : new int[]{1, 18, 19, 287, 288, 289, 1000, 5000}) {
+            StringBuilder builder = new StringBuilder("-");
+            builder.append((char) ('1' + random.nextInt(9)));
+            while (builder.length() <= digits) {
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+            String text = builder.toString();
+            assertEquals(new BigInteger(text), Cast.toBigInteger(text, null));
+            assertEquals(new BigDecimal(text + ".05"), Cast.toBigDecimal(text + ".05", null));
+            assertNull(Cast.toBigInteger(text + "x", null));
+        }
+        String hex = "0123456789abcdefABCDEF0123456789";
+        assertEquals(new BigInteger(hex, 16), Cast.toBigInteger("0x" + hex, null));
+        assertEquals(new BigInteger(hex.substring(1), 16).negate(), Cast.toBigInteger("-#" + hex.substring(1), null));
+        assertEquals(BigDecimal.valueOf(5), Cast.toBigDecimal(5L, null));
+        assertEquals(new BigDecimal("0.1"), Cast.toBigDecimal(0.1d, null));
+        assertNull(Cast.toBigDecimal(Double.NaN, null));
+    }
+
+    @Test
+    public void testToBytes() throws IOException {
         assertArrayEquals(new byte[0], Cast.toBytes(null, new byte[0]));
+        assertNull(Cast.toBytes(null, null));
         assertArrayEquals(new byte[]{97, 98, 99}, Cast.toBytes("abc", new byte[0]));
         ByteArrayInputStream bais = new ByteArrayInputStream(new byte[]{97, 98, 99});
         assertArrayEquals(new byte[]{97, 98, 99}, Cast.toBytes(bais, new byte[0]));
+
+        byte[] large = new byte[100_000];
+        new Random(42).nextBytes(large);
+        // 长度未知的流按分块读取
+        assertArrayEquals(large, Cast.toBytes(new BufferedInputStream(new ByteArrayInputStream(large))));
+        assertArrayEquals(large, Cast.toBytes(new BufferedInputStream(new ByteArrayInputStream(large)), 100_000L));
+        assertArrayEquals(large, Cast.toBytes(new ByteArrayInputStream(large), 100_000L));
+        // 预计的长度与实际长度不同
+        assertArrayEquals(large, ByteStreamReader.read(new ByteArrayInputStream(large), 10, Long.MAX_VALUE));
+        assertArrayEquals(large, ByteStreamReader.read(new ByteArrayInputStream(large), 200_000, Long.MAX_VALUE));
+        try {
+            Cast.toBytes(new BufferedInputStream(new ByteArrayInputStream(large)), 99_999L);
+            fail();
+        } catch (CastException ignore) {
+        }
+        try {
+            Cast.toBytes(new ByteArrayInputStream(large), 10L);
+            fail();
+        } catch (CastException ignore) {
+        }
+        try {
+            Cast.toBytes("abc", 2L);
+            fail();
+        } catch (CastException ignore) {
+        }
+    }
+
+    @Test
+    public void testToByteBuffer() throws IOException {
+        byte[] bytes = {97, 98, 99};
+        ByteBuffer buffer = Cast.toByteBuffer(bytes);
+        assertTrue(buffer.isReadOnly());
+        assertEquals(3, buffer.remaining());
+        bytes[0] = 100;
+        assertEquals(100, buffer.get(0));
+        ByteBuffer direct = Cast.toByteBuffer(bytes, true);
+        assertTrue(direct.isDirect());
+        assertEquals(ByteBuffer.wrap(bytes), direct);
+        assertNull(Cast.toByteBuffer(new Object(), null));
+        assertArrayEquals(new byte[]{98, 99}, Cast.toBytes((ByteBuffer) ByteBuffer.wrap(bytes).position(1)));
+        ByteBuffer little = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 1);
+        for (ByteBuffer view : new ByteBuffer[]{Cast.toByteBuffer(little), Cast.toByteBuffer(little, true)}) {
+            assertEquals(ByteOrder.LITTLE_ENDIAN, view.order());
+            assertEquals(1, view.getInt(0));
+        }
+
+        Path path = Files.createTempFile("cast", ".bin");
+        try {
+            Files.write(path, "hello world".getBytes(StandardCharsets.US_ASCII));
+            ByteBuffer mapped = Cast.toByteBuffer(path);
+            assertTrue(mapped.isDirect());
+            assertEquals(ByteBuffer.wrap("hello world".getBytes(StandardCharsets.US_ASCII)), mapped);
+            assertEquals(mapped, Cast.toByteBuffer(path.toFile()));
+            try (FileChannel channel = FileChannel.open(path)) {
+                channel.position(6);
+                assertEquals(ByteBuffer.wrap("world".getBytes(StandardCharsets.US_ASCII)), Cast.toByteBuffer(channel));
+            }
+        } finally {
+            Files.delete(path);
+        }
+        assertNull(Cast.toByteBuffer(path, null));
+    }
+
+    @Test
+    public void testToBytesCharset() {
+        String text = "a\u00e9\u4e2d\ud83d\ude00\ud800x";
+        Charset[] charsets = {StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1, StandardCharsets.US_ASCII,
+            StandardCharsets.UTF_16LE, Charset.forName("GBK")};
+        for (Charset charset : charsets) {
+            byte[] expected = text.getBytes(charset);
+            assertArrayEquals(expected, Cast.encode(text, charset));
+            assertArrayEquals(expected, Cast.encode(new StringBuilder(text), charset));
+            assertArrayEquals(expected, Cast.encode(text.toCharArray(), charset, null));
+
+            byte[] dest = new byte[expected.length + 2];
+            assertEquals(expected.length, Cast.encodeTo(new StringBuilder(text), charset, dest, 2));
+            assertArrayEquals(expected, Arrays.copyOfRange(dest, 2, dest.length));
+            try {
+                Cast.encodeTo(new StringBuilder(text), charset, dest, 3);
+                fail();
+            } catch (IndexOutOfBoundsException ignore) {
+            }
+
+            for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+                buffer.put((byte) 1);
+                assertEquals(expected.length, Cast.encodeTo(text, charset, buffer));
+                assertEquals(expected.length + 1, buffer.position());
+                buffer.flip().get();
+                byte[] actual = new byte[buffer.remaining()];
+                buffer.get(actual);
+                assertArrayEquals(expected, actual);
+                buffer.clear().limit(expected.length - 1);
+                try {
+                    Cast.encodeTo(text, charset, buffer);
+                    fail();
+                } catch (BufferOverflowException ignore) {
+                }
+                assertEquals(0, buffer.position());
+            }
+        }
+        assertArrayEquals(new byte[]{1}, Cast.encode((byte) 1, StandardCharsets.UTF_8));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder builder = new StringBuilder();
+            for (int j = random.nextInt(16); j > 0; j--) {
+                int kind = random.nextInt(4);
+                builder.append((char) (kind == 0 ? random.nextInt(0x80) : kind == 1 ? random.nextInt(0x800)
+                    : kind == 2 ? 0xd800 + random.nextInt(0x800) : random.nextInt(0x10000)));
+            }
+            for (int j = 0; j < 3; j++) {
+                Charset charset = charsets[j];
+                assertArrayEquals(builder.toString().getBytes(charset), Cast.encode(builder, charset));
+            }
+        }
+    }
+
+    @Test
+    public void testBinaryCodec() {
+        Number[] values = {(byte) -2, (short) -300, 0x12345678, -0x123456789abL, 1.5f, -2.25, new AtomicInteger(7),
+            new AtomicLong(-7), BigInteger.valueOf(-129), new BigInteger("-123456789012345678901234567890"),
+            new BigDecimal("-12345.678"), new BigDecimal("1E+5"), new BigDecimal("123456789012345678901234.5")};
+        byte[] bytes = new byte[64];
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            for (Number value : values) {
+                int size = BinaryCodec.write(value, bytes, 3, order);
+                assertEquals(BinaryCodec.sizeOf(value), size);
+                ByteBuffer buffer = ByteBuffer.allocate(64).order(order);
+                ByteBuffer direct = ByteBuffer.allocateDirect(64).order(order);
+                assertEquals(size, BinaryCodec.write(value, buffer));
+                assertEquals(size, BinaryCodec.write(value, direct));
+                assertEquals(size, buffer.position());
+                direct.flip();
+                for (int i = 0; i < size; i++) {
+                    assertEquals(bytes[3 + i], buffer.get(i));
+                    assertEquals(bytes[3 + i], direct.get(i));
+                }
+                Object decoded;
+                if (value instanceof Byte) {
+                    decoded = bytes[3];
+                } else if (value instanceof Short) {
+                    decoded = BinaryCodec.toShort(bytes, 3, order);
+                } else if (value instanceof Integer) {
+                    decoded = BinaryCodec.toInt(bytes, 3, order);
+                } else if (value instanceof Long) {
+                    decoded = BinaryCodec.toLong(bytes, 3, order);
+                } else if (value instanceof Float) {
+                    decoded = BinaryCodec.toFloat(bytes, 3, order);
+                } else if (value instanceof Double) {
+                    decoded = BinaryCodec.toDouble(bytes, 3, order);
+                } else if (value instanceof AtomicInteger) {
+                    decoded = BinaryCodec.toInt(bytes, 3, order);
+                    value = value.intValue();
+                } else if (value instanceof AtomicLong) {
+                    decoded = BinaryCodec.toLong(bytes, 3, order);
+                    value = value.longValue();
+                } else if (value instanceof BigInteger) {
+                    decoded = BinaryCodec.toBigInteger(bytes, 3, size, order);
+                } else {
+                    decoded = BinaryCodec.toBigDecimal(bytes, 3, size, order);
+                }
+                assertEquals(value, decoded);
+            }
+        }
+        assertArrayEquals(new byte[]{0x12, 0x34, 0x56, 0x78}, Cast.toBytes(0x12345678));
+        assertArrayEquals(new byte[]{0x3f, (byte) 0xc0, 0, 0}, Cast.toBytes(1.5f));
+        assertEquals(0x78563412, Cast.decodeInt(new byte[]{0x12, 0x34, 0x56, 0x78}, ByteOrder.LITTLE_ENDIAN));
+        assertEquals(0x0102030405060708L, Cast.decodeLong(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}, ByteOrder.BIG_ENDIAN));
+        assertEquals(-2, Cast.decodeShort(new byte[]{(byte) 0xfe, (byte) 0xff}, ByteOrder.LITTLE_ENDIAN));
+        assertEquals(1.5, Cast.decodeDouble(BinaryCodec.toBytes(1.5, ByteOrder.LITTLE_ENDIAN), ByteOrder.LITTLE_ENDIAN), 0);
+        assertEquals(1.5f, Cast.decodeFloat(Cast.toBytes(1.5f), ByteOrder.BIG_ENDIAN), 0);
+        try {
+            BinaryCodec.write(1L, new byte[8], 1, ByteOrder.BIG_ENDIAN);
+            fail();
+        } catch (IndexOutOfBoundsException ignore) {
+        }
+    }
+
+    @Test
+    public void testSpill() throws Exception {
+        byte[] large = new byte[100_000];
+        new Random(42).nextBytes(large);
+        ByteBuffer heap = Cast.toByteBuffer(new BufferedInputStream(new ByteArrayInputStream(large)), 100_000L);
+        assertFalse(heap.isDirect());
+        assertEquals(ByteBuffer.wrap(large), heap);
+        ByteBuffer spilled = Cast.toByteBuffer(new BufferedInputStream(new ByteArrayInputStream(large)), 1000L);
+        assertTrue(spilled.isDirect());
+        assertEquals(ByteBuffer.wrap(large), spilled);
+        assertEquals(ByteBuffer.wrap(large), Cast.toByteBuffer(new SerialBlob(large), 0L));
+        assertEquals(ByteBuffer.wrap(new byte[0]), Cast.toByteBuffer(new ByteArrayInputStream(new byte[0]), 0L));
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 50_000; i++) {
+            builder.append((char) ('a' + i % 26)).append('\u4e2d');
+        }
+        String text = builder.toString();
+        CharSequence chars = Cast.toCharSequence(new StringReader(text), 1000L);
+        assertTrue(chars instanceof CharBuffer);
+        assertEquals(text, chars.toString());
+        assertEquals(text, Cast.toCharSequence(new SerialClob(text.toCharArray()), 10L).toString());
+        assertEquals(text, Cast.toCharSequence(new StringReader(text), 100_000L));
+        assertEquals("1,2", Cast.toCharSequence(new int[]{1, 2}, 0L));
+        try {
+            Cast.toCharSequence(new StringReader("abc"), -1L);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            Cast.toByteBuffer(new ByteArrayInputStream(new byte[1]), -1L);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
     }
 
     @Test
@@ -84,6 +701,223 @@ public class CastTest {
         assertEquals(now, Cast.toDate(now, (Date) null));
         assertEquals(calendar.getTime(), Cast.toDate("20190601", "yyyyMMdd", null));
         assertEquals(calendar.getTime(), Cast.toDate(calendar, (Date) null));
+
+        Cast.registerDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+        calendar.set(2019, Calendar.JUNE, 1, 13, 45, 30);
+        calendar.set(Calendar.MILLISECOND, 123);
+        assertEquals(calendar.getTime(), Cast.toDate("2019-06-01 13:45:30.123", "yyyy-MM-dd HH:mm:ss.SSS", null));
+        assertEquals(new Timestamp(calendar.getTimeInMillis()),
+            Cast.toSqlTimestamp("2019-06-01 13:45:30.123", "yyyy-MM-dd HH:mm:ss.SSS", null));
+        assertEquals(new Date(1559396730000L), Cast.toDate("2019-06-01T13:45:30+0000", "yyyy-MM-dd'T'HH:mm:ssZ", null));
+        assertEquals(new Date(49530000L + TimeZone.getDefault().getOffset(0) * -1L),
+            Cast.toDate("01:45:30 PM", "hh:mm:ss a", null));
+        assertNull(Cast.toDate("2019-02-30", "yyyy-MM-dd", null));
+        assertNull(Cast.toDate("2019-06-01", "yyyy-MM-dd-", null));
+        assertNull(Cast.toDate("2019-06-01", "yyyy-MM-dd {", null));
+        // 基于周的年份无法与月、日组合为日期，不能忽略后得到 1970 年的日期
+        assertNull(Cast.toDate("2019-06-01", "YYYY-MM-dd", null));
+        assertNull(Cast.toDate("2019-6-1", "yyyy-MM-dd", null));
+        try {
+            Cast.toDate("2019-06-01", "yyyy-MM-dd {");
+            fail();
+        } catch (CastException ignored) {
+        }
+        assertNull(Cast.toDate("2019 22", "YYYY ww", null));
+        calendar.set(2019, Calendar.JUNE, 1, 0, 0, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        assertEquals(calendar.getTime(), Cast.toDate("2019-6-1", "yyyy-M-d", null));
+        calendar.set(2019, Calendar.JUNE, 1, 1, 0, 0);
+        assertEquals(calendar.getTime(), Cast.toDate("2019-06-01 3600000000000", "yyyy-MM-dd N", null));
+
+        // 非 ISO-8601 字符串按本地化的默认格式解析，解析器按线程复用，时区随默认时区变化
+        SimpleDateFormat legacy = new SimpleDateFormat();
+        calendar.set(2019, Calendar.JUNE, 1, 13, 45, 0);
+        String text = legacy.format(calendar.getTime());
+        assertEquals(calendar.getTime(), Cast.toDate(text, (Date) null));
+        assertEquals(calendar.getTime(), Cast.toDate(new StringBuilder(text), (Date) null));
+        assertNull(Cast.toDate("not a date", (Date) null));
+        try {
+            Cast.setDefaultZone(ZoneOffset.ofHours(14));
+            legacy.setTimeZone(TimeZone.getTimeZone(ZoneOffset.ofHours(14)));
+            assertEquals(legacy.parse(text, new ParsePosition(0)), Cast.toDate(text, (Date) null));
+        } finally {
+            Cast.setDefaultZone(null);
+        }
+        assertEquals(calendar.getTime(), Cast.toDate(text, (Date) null));
+    }
+
+    @Test
+    public void testToDateIso() {
+        assertEquals(new Date(1559396730123L), Cast.toDate("2019-06-01T13:45:30.123Z", (Date) null));
+        assertEquals(new Date(1559396730000L), Cast.toDate("2019-06-01 21:45:30+08:00", (Date) null));
+        assertEquals(new Date(1559396730000L), Cast.toDate("2019-06-01T08:15:30-0530", (Date) null));
+        assertEquals(new Date(1559396700000L), Cast.toDate(" 2019-06-01t13:45z ", (Date) null));
+        assertEquals(new Date(1559396730123L), Cast.toDate("1559396730123", (Date) null));
+        assertEquals(new Date(-1000L), Cast.toDate("-1000", (Date) null));
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2019, Calendar.JUNE, 1);
+        assertEquals(calendar.getTime(), Cast.toDate("2019-06-01", (Date) null));
+        assertEquals(new java.sql.Date(calendar.getTimeInMillis()), Cast.toSqlDate("2019-06-01", null));
+        calendar.clear();
+        calendar.set(1970, Calendar.JANUARY, 1, 13, 45, 30);
+        assertEquals(new Time(calendar.getTimeInMillis()), Cast.toSqlTime("13:45:30", null));
+
+        Timestamp timestamp = Cast.toSqlTimestamp("2019-06-01T13:45:30.123456789Z", null);
+        assertEquals(1559396730123L, timestamp.getTime());
+        assertEquals(123456789, timestamp.getNanos());
+
+        assertNull(Cast.toDate("2019-02-29", (Date) null));
+        assertNull(Cast.toDate("2019-06-01T24:00", (Date) null));
+        assertNull(Cast.toDate("2019-06-01T13:45:30+19:00", (Date) null));
+        assertNull(Cast.toDate("2019-06-01T13:45:30.", (Date) null));
+        assertNull(Cast.toDate("2019-06-01X13:45", (Date) null));
+        assertNull(Cast.toDate("12345678901234567890", (Date) null));
+
+        // 连续解析前缀相同的时间戳
+        for (int i = 0; i < 120; i++) {
+            String value = String.format("2019-06-01T13:%02d:%02d.%03dZ", 44 + i / 60, i % 60, i);
+            assertEquals(1559396640000L + i * 1001L, Cast.toEpochMillis(value, -1L));
+        }
+        assertEquals(1559396730000L, Cast.toEpochMillis("2019-06-01T13:45:30Z", -1L));
+        assertEquals(1559396730000L, Cast.toEpochMillis("2019-06-01T13:45:30+00:00", -1L));
+        assertEquals(1559396730000L, Cast.toEpochMillis("2019-06-01 13:45:30Z", -1L));
+        assertEquals(1559396700000L, Cast.toEpochMillis("2019-06-01 13:45Z", -1L));
+        assertEquals(-1L, Cast.toEpochMillis("2019-06-01 13:45:7x", -1L));
+        assertEquals(-1L, Cast.toEpochMillis("2019-06-01 13:45:60Z", -1L));
+        assertEquals(1559483130000L, Cast.toEpochMillis("2019-06-02 13:45:30Z", -1L));
+    }
+
+    @Test
+    public void testToTemporal() {
+        Instant instant = Instant.ofEpochSecond(1559396730L, 123456789);
+        assertEquals(instant, Cast.toInstant("2019-06-01T13:45:30.123456789Z"));
+        assertEquals(Instant.ofEpochMilli(1559396730123L), Cast.toInstant(1559396730123L));
+        assertEquals(Instant.ofEpochMilli(1559396730123L), Cast.toInstant(new Date(1559396730123L)));
+        Timestamp timestamp = Timestamp.from(instant);
+        assertEquals(instant, Cast.toInstant(timestamp));
+        assertEquals(timestamp.toLocalDateTime(), Cast.toLocalDateTime(timestamp));
+        assertEquals(LocalDateTime.of(2019, 6, 1, 21, 45, 30), Cast.toLocalDateTime("2019-06-01T21:45:30+08:00"));
+        assertEquals(LocalDate.of(2019, 6, 1), Cast.toLocalDate("2019-06-01"));
+        assertEquals(LocalDate.of(2019, 6, 1), Cast.toLocalDate(LocalDateTime.of(2019, 6, 1, 23, 59)));
+        OffsetDateTime offsetDateTime = OffsetDateTime.of(2019, 6, 1, 21, 45, 30, 0, ZoneOffset.ofHours(8));
+        assertEquals(offsetDateTime, Cast.toOffsetDateTime("2019-06-01T21:45:30+08:00"));
+        assertEquals(offsetDateTime.toInstant(), Cast.toInstant(offsetDateTime.atZoneSameInstant(ZoneOffset.UTC)));
+        assertEquals(LocalDateTime.of(2019, 6, 1, 13, 45), Cast.toLocalDateTime(
+            OffsetDateTime.of(2019, 6, 1, 13, 45, 0, 0, ZoneOffset.ofHours(-3))));
+        LocalDateTime local = LocalDateTime.of(2019, 6, 1, 13, 45, 30, 1);
+        assertEquals(local.atZone(ZoneId.systemDefault()).toInstant(), Cast.toInstant(local));
+        assertEquals(local, Cast.toLocalDateTime(Cast.toInstant(local)));
+        assertEquals(123456789, Cast.toSqlTimestamp(instant, null).getNanos());
+        assertEquals(123456789, Cast.toSqlTimestamp(timestamp, null).getNanos());
+        assertNull(Cast.toLocalDate("2019-06-31", null));
+        assertNull(Cast.toInstant(new Object(), null));
+    }
+
+    @Test
+    public void testToEpoch() {
+        assertEquals(1559396730123L, Cast.toEpochMillis("2019-06-01T13:45:30.123456Z", -1L));
+        assertEquals(1559396730123L, Cast.toEpochMillis(1559396730123L, -1L));
+        assertEquals(1559396730123L, Cast.toEpochMillis(new Date(1559396730123L), -1L));
+        assertEquals(-1L, Cast.toEpochMillis("abc", -1L));
+        assertEquals(-1L, Cast.toEpochMillis(Instant.MAX, -1L));
+        assertEquals(1559396730123456000L, Cast.toEpochNanos("2019-06-01T13:45:30.123456Z", -1L));
+        assertEquals(1559396730123456789L, Cast.toEpochNanos(Instant.ofEpochSecond(1559396730L, 123456789), -1L));
+        Timestamp timestamp = new Timestamp(1559396730000L);
+        timestamp.setNanos(1);
+        assertEquals(1559396730000000001L, Cast.toEpochNanos(timestamp, -1L));
+        assertEquals(-1000000L, Cast.toEpochNanos(-1L, 0L));
+        assertEquals(-1L, Cast.toEpochNanos("2300-01-01", -1L));
+        assertEquals(-1L, Cast.toEpochNanos(null, -1L));
+    }
+
+    @Test
+    public void testToStrDate() {
+        Cast.setDefaultZone(ZoneOffset.ofHours(8));
+        try {
+            assertEquals("2019-06-01T21:45:30.123+08:00", Cast.toStr(new Date(1559396730123L), ""));
+            assertEquals("2019-06-01T21:45:30+08:00", Cast.toStr(new Date(1559396730000L), ""));
+            assertEquals("2019-06-01", Cast.toStr(new java.sql.Date(1559396730123L), ""));
+            assertEquals("21:45:30", Cast.toStr(new Time(1559396730123L), ""));
+            Timestamp timestamp = new Timestamp(1559396730000L);
+            timestamp.setNanos(123456000);
+            assertEquals("2019-06-01T21:45:30.123456+08:00", Cast.toStr(timestamp, ""));
+            Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+            calendar.setTimeInMillis(-1L);
+            assertEquals("1969-12-31T23:59:59.999Z", Cast.toStr(calendar, ""));
+            assertEquals(new Date(1559396730123L), Cast.toDate(Cast.toStr(new Date(1559396730123L), ""), (Date) null));
+
+            assertEquals("2019/06/01 21:45", Cast.toStr(new Date(1559396730123L), "yyyy/MM/dd HH:mm", null));
+            assertEquals("2019/06/01 21:45", Cast.toStr(Instant.ofEpochMilli(1559396730123L), "yyyy/MM/dd HH:mm", null));
+            assertEquals("21:45:30.123456", Cast.toStr(timestamp, "HH:mm:ss.SSSSSS", null));
+            assertEquals("2019-06-01", Cast.toStr(LocalDate.of(2019, 6, 1), "yyyy-MM-dd", null));
+            assertEquals("x", Cast.toStr(LocalDate.of(2019, 6, 1), "HH:mm", "x"));
+            assertEquals("abc", Cast.toStr("abc", "yyyy", null));
+            assertEquals("2019-06-01", Cast.toStr(LocalDate.of(2019, 6, 1), null, null));
+        } finally {
+            Cast.setDefaultZone(null);
+        }
+
+        StringBuilder builder = new StringBuilder();
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            long epochSecond = random.nextLong() % 400_000_000_000L;
+            int nano = random.nextInt(4) == 0 ? 0 : random.nextInt(1000_000_000);
+            int offset = (random.nextInt(37) - 18) * 1800;
+            builder.setLength(0);
+            IsoDateTimeWriter.appendDateTime(builder, epochSecond, nano, offset);
+            OffsetDateTime expected = OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano),
+                ZoneOffset.ofTotalSeconds(offset));
+            assertEquals(expected, OffsetDateTime.parse(builder));
+        }
+    }
+
+    @Test
+    public void testTimeContext() {
+        ZoneId zone = ZoneId.of("America/New_York");
+        Cast.setDefaultZone(zone);
+        Cast.setClock(Clock.fixed(Instant.parse("2019-06-01T02:00:00Z"), ZoneOffset.UTC));
+        try {
+            // 逐小时跨越夏令时的间隙与重叠，结果与 ZonedDateTime 一致
+            LocalDateTime dateTime = LocalDateTime.of(2019, 3, 9, 0, 30);
+            for (int i = 0; i < 24 * 250; i++, dateTime = dateTime.plusMinutes(60)) {
+                assertEquals(dateTime.atZone(zone).toInstant(), Cast.toInstant(dateTime));
+                assertEquals(dateTime.atZone(zone).toInstant().toEpochMilli(), Cast.toDate(dateTime).getTime());
+            }
+            assertEquals(LocalDate.of(2019, 11, 3).atStartOfDay(zone).toInstant(),
+                Cast.toInstant(LocalDate.of(2019, 11, 3)));
+            assertEquals(Instant.parse("2019-03-10T07:30:00Z"), Cast.toInstant("2019-03-10T02:30:00"));
+            assertEquals(Instant.parse("2019-11-03T05:30:00Z"), Cast.toInstant("2019-11-03 01:30"));
+            assertEquals(Instant.parse("2019-06-01T04:00:00Z"), Cast.toInstant("2019-06-01"));
+            assertEquals(LocalDateTime.of(2019, 1, 1, 7, 0), Cast.toLocalDateTime(Instant.parse("2019-01-01T12:00:00Z")));
+
+            // 只有时间的对象使用时钟在默认时区的当前日期（2019-05-31）
+            assertEquals(Instant.parse("2019-05-31T14:00:00Z"), Cast.toInstant(LocalTime.of(10, 0)));
+            assertEquals(Instant.parse("2019-05-31T10:00:00Z"),
+                Cast.toInstant(OffsetTime.of(10, 0, 0, 0, ZoneOffset.UTC)));
+            Cast.setClock(Clock.fixed(Instant.parse("2019-06-01T05:00:00Z"), ZoneOffset.UTC));
+            assertEquals(Instant.parse("2019-06-01T14:00:00Z"), Cast.toInstant(LocalTime.of(10, 0)));
+
+            Cast.setDefaultZone(ZoneOffset.ofHours(8));
+            assertEquals(Instant.parse("2019-06-01T02:00:00Z"), Cast.toInstant(LocalTime.of(10, 0)));
+            assertEquals(1559320200000L, Cast.toDate("2019-06-01 00:30", "yyyy-MM-dd HH:mm").getTime());
+        } finally {
+            Cast.setDefaultZone(null);
+            Cast.setClock(null);
+        }
+
+        // 没有设置默认时区时跟随系统默认时区的修改
+        TimeZone original = TimeZone.getDefault();
+        try {
+            Cast.toInstant("2019-06-01T00:00");
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            assertEquals(Instant.parse("1969-12-31T15:00:00Z"), Cast.toInstant(LocalDateTime.of(1970, 1, 1, 0, 0)));
+            assertEquals(Instant.parse("2019-05-31T15:00:00Z"), Cast.toInstant("2019-06-01T00:00"));
+            assertEquals(Instant.parse("2019-06-01T00:00:00Z"), Cast.toInstant("2019-06-01T00:00Z"));
+        } finally {
+            TimeZone.setDefault(original);
+            Cast.setDefaultZone(null);
+        }
     }
 
     @Test
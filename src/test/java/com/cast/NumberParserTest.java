@@ -0,0 +1,112 @@
+package com.cast;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class NumberParserTest {
+
+    private static final String[] EDGE_CASES = {
+        "0", "-0", "0.0", "-0.0", "1", "-1", "0.1", "0.2", "0.3", "1e23", "8.41e21", "5e-324", "4.9e-324",
+        "2.4703282292062327e-324", "2.4703282292062328e-324", "2.2250738585072011e-308",
+        "2.2250738585072012e-308", "2.2250738585072014e-308", "1.7976931348623157e308",
+        "1.7976931348623158e308", "1.7976931348623159e308", "1e309", "1e-400", "9007199254740993",
+        "9007199254740992.5", "9007199254740993.0000000000000000000000000001", "179769313486231580793728971405301e276",
+        "7.038531e-26", "3.4028235e38", "3.4028236e38", "1.17549435e-38", "1.4e-45", "7.0e-46", "7.1e-46",
+        "123456789012345678901234567890", "0.000000000000000000000000000000000000001", "1.00000017881393432617187499",
+        "1.000000178813934326171875", "1.00000017881393432617187501", "4.4501477170144022721148195934182639518696390927032912960468522194496444440421538910330590478162701758282983178260792422137401728773891892910553144148156412434867599762821265346585071045737627442980259622449029037796981144446145705102663115100318287949527959668236039986479250965780342141637013812613333119898765515451440315261253813266652951306000184917766328660755595837392240989947807556594098101021612198814605258742579179000071675999344145086087205681577915435923018910334964869420614052182892431445797605163650903606514140377217442262561590244668525767372446430075513332450079650686719491377688478005309963967709758965844137894433796621993967316936280457084866613206797017728916080020698679408551343728867675409720757232455434770912461317493580281734466552734375e-308",
+        "1e-45", "1e38", "1e39", "0.1e1", ".5", "5.", "1E+2", "1e-2d", "2.5f", "  3.25  "
+    };
+
+    @Test
+    public void testEdgeCases() {
+        for (String text : EDGE_CASES) {
+            assertSameDouble(text);
+            assertSameFloat(text);
+        }
+    }
+
+    @Test
+    public void testRandomBitPatterns() {
+        Random random = new Random(20200304L);
+        for (int i = 0; i < 100000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+            assertSameDouble(Double.toString(value));
+            assertSameDouble(new BigDecimal(value).toString());
+            float single = Float.intBitsToFloat(random.nextInt());
+            if (!Float.isNaN(single) && !Float.isInfinite(single)) {
+                assertSameFloat(Float.toString(single));
+            }
+        }
+    }
+
+    @Test
+    public void testRandomDigitStrings() {
+        Random random = new Random(42L);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            builder.setLength(0);
+            if (random.nextBoolean()) {
+                builder.append('-');
+            }
+            int digits = 1 + random.nextInt(random.nextBoolean() ? 19 : 40);
+            int point = random.nextInt(digits + 1);
+            for (int j = 0; j < digits; j++) {
+                if (j == point) {
+                    builder.append('.');
+                }
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+            builder.append('e').append(random.nextInt(700) - 350);
+            String text = builder.toString();
+            assertSameDouble(text);
+            assertSameFloat(text);
+        }
+
+        // 超出缓存范围的 10 的幂只在单次解析中计算
+        builder.setLength(0);
+        builder.append('9');
+        for (int i = 1; i < (18 << (NumberParser.MAX_CACHED_TEN_POWER + 1)) + 1000; i++) {
+            builder.append((char) ('0' + random.nextInt(10)));
+        }
+        String huge = builder.toString();
+        assertEquals(huge, NumberParser.parseDecimalBigIntegerRecursive(huge, 0, huge.length()).toString());
+    }
+
+    @Test
+    public void testInvalidInput() {
+        String[] invalid = {"", " ", "-", "+", ".", "e5", "1e", "1e+", "1.2.3", "1,5", "0x", "0x1.0", "abc", "Infinit", "nan", "1ee5"};
+        for (String text : invalid) {
+            assertEquals(text, -7d, NumberParser.parseDouble(text, -7d), 0d);
+            byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(text, -7d, AsciiNumberParser.parseDouble(bytes, 0, bytes.length, false, -7d), 0d);
+        }
+        assertEquals(3d, NumberParser.parseDouble("0x1.8p1", 0d), 0d);
+        assertTrue(Double.isNaN(NumberParser.parseDouble("NaN", 0d)));
+        assertEquals(Double.NEGATIVE_INFINITY, NumberParser.parseDouble("-Infinity", 0d), 0d);
+    }
+
+    private static void assertSameDouble(String text) {
+        long expected = Double.doubleToRawLongBits(Double.parseDouble(text));
+        assertEquals(text, expected, Double.doubleToRawLongBits(NumberParser.parseDouble(text, Double.NaN)));
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        assertEquals(text, expected,
+            Double.doubleToRawLongBits(AsciiNumberParser.parseDouble(bytes, 0, bytes.length, false, Double.NaN)));
+    }
+
+    private static void assertSameFloat(String text) {
+        int expected = Float.floatToRawIntBits(Float.parseFloat(text));
+        assertEquals(text, expected, Float.floatToRawIntBits(NumberParser.parseFloat(text, Float.NaN)));
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        assertEquals(text, expected,
+            Float.floatToRawIntBits((float) AsciiNumberParser.parseDouble(bytes, 0, bytes.length, true, Float.NaN)));
+    }
+
+}